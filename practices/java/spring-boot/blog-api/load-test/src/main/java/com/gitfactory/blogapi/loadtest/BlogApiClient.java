@@ -0,0 +1,190 @@
+package com.gitfactory.blogapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+/**
+ * 게시글 API 호출 (데이터 준비 + 요청 종류별 HTTP 요청 생성)
+ *
+ * 게시글, 작성자, 검색어는 모두 Zipf 분포로 고릅니다. 게시글은 등록 순서와 인기 순위가 겹치지 않도록
+ * 섞어서 순위를 매깁니다 (최근/오래된 게시글만 인기 있는 것이 아니라 ID 전체에 퍼짐).
+ */
+final class BlogApiClient {
+
+    private static final int SEED_CHUNK_SIZE = 500;
+    private static final int LIST_PAGE_SIZE = 100;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /** 제목/본문에 넣는 단어 (검색어로 사용) */
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "jpa", "hibernate", "cache", "index", "query", "transaction", "kafka",
+            "redis", "docker", "kubernetes", "gradle", "test", "latency", "throughput", "thread", "virtual", "reactive",
+            "security", "oauth", "jwt", "rest", "graphql", "grpc", "json", "http", "tomcat", "netty",
+            "postgres", "mysql", "h2", "flyway", "metrics", "tracing", "logging", "profile", "native", "aot"
+    };
+
+    private final HttpClient http;
+    private final URI baseUrl;
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ZipfDistribution authorPopularity;
+    private final ZipfDistribution keywordPopularity;
+    private List<Long> postsByPopularity = List.of();
+    private ZipfDistribution postPopularity;
+    private long createdCount;
+
+    BlogApiClient(LoadTestConfig config) {
+        this.config = config;
+        this.baseUrl = config.baseUrl();
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2, runnable -> {
+                    // 응답 처리 스레드가 종료를 막지 않도록 데몬 스레드 사용
+                    Thread thread = new Thread(runnable, "load-test-http");
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+        this.authorPopularity = new ZipfDistribution(config.authors(), config.zipfExponent());
+        this.keywordPopularity = new ZipfDistribution(WORDS.length, config.zipfExponent());
+    }
+
+    /**
+     * 게시글 등록(seedPosts > 0) 또는 기존 게시글 ID 조회 후 조회/수정 대상 순위 결정
+     *
+     * @return 조회/수정 대상 게시글 수
+     */
+    int prepare(SplittableRandom random) throws IOException, InterruptedException {
+        List<Long> ids = config.seedPosts() > 0 ? seed(config.seedPosts(), random) : existingIds();
+        if (ids.isEmpty() && (config.mix().includes(Operation.READ) || config.mix().includes(Operation.UPDATE))) {
+            throw new IllegalStateException("No posts to read or update (use --seed-posts > 0)");
+        }
+        List<Long> shuffled = new ArrayList<>(ids);
+        Collections.shuffle(shuffled, new Random(random.nextLong()));
+        postsByPopularity = shuffled;
+        postPopularity = shuffled.isEmpty() ? null : new ZipfDistribution(shuffled.size(), config.zipfExponent());
+        return shuffled.size();
+    }
+
+    HttpRequest request(Operation operation, SplittableRandom random) {
+        return switch (operation) {
+            case READ -> get("/api/posts/" + nextPostId(random));
+            case SEARCH -> get("/api/posts/search?keyword=" + WORDS[keywordPopularity.next(random)]);
+            case AUTHOR -> get("/api/posts/author/" + encode(author(authorPopularity.next(random))));
+            case CREATE -> json("POST", "/api/posts", post(random, ++createdCount));
+            case UPDATE -> {
+                long id = nextPostId(random);
+                yield json("PUT", "/api/posts/" + id, post(random, id));
+            }
+        };
+    }
+
+    CompletableFuture<HttpResponse<Void>> sendAsync(HttpRequest request) {
+        return http.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private List<Long> seed(int count, SplittableRandom random) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset += SEED_CHUNK_SIZE) {
+            List<Map<String, String>> chunk = new ArrayList<>();
+            for (int i = offset; i < Math.min(count, offset + SEED_CHUNK_SIZE); i++) {
+                chunk.add(post(random, i));
+            }
+            JsonNode response = send(json("POST", "/api/posts/batch", chunk));
+            for (JsonNode result : response.path("results")) {
+                if (result.hasNonNull("id")) {
+                    ids.add(result.get("id").asLong());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private List<Long> existingIds() throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        String path = "/api/posts?size=" + LIST_PAGE_SIZE;
+        while (path != null) {
+            JsonNode page = send(get(path));
+            for (JsonNode post : page.path("content")) {
+                ids.add(post.get("id").asLong());
+            }
+            path = page.hasNonNull("nextCursor")
+                    ? "/api/posts?size=" + LIST_PAGE_SIZE + "&cursor=" + encode(page.get("nextCursor").asText())
+                    : null;
+        }
+        return ids;
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " failed with status "
+                    + response.statusCode() + ": " + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private long nextPostId(SplittableRandom random) {
+        return postsByPopularity.get(postPopularity.next(random));
+    }
+
+    private Map<String, String> post(SplittableRandom random, long number) {
+        String keyword = WORDS[keywordPopularity.next(random)];
+        StringBuilder content = new StringBuilder(config.contentSize() + 16);
+        while (content.length() < config.contentSize()) {
+            content.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        content.setLength(config.contentSize());
+        return Map.of(
+                "title", "Load test " + keyword + " " + number,
+                "content", content.toString(),
+                "author", author(authorPopularity.next(random)));
+    }
+
+    private static String author(int rank) {
+        return "author-" + rank;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest json(String method, String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(baseUrl.resolve(path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,154 @@
+package com.gitfactory.blogapi.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 지연시간 히스토그램 (HdrHistogram, 마이크로초 단위) 및 오류/누락 집계
+ *
+ * 지연시간은 응답을 받은 시각 - 예정된 전송 시각입니다. 부하 생성기가 밀려서 늦게 보낸 요청도
+ * 예정 시각부터 계산하므로, 서버가 느려진 동안의 대기 시간이 결과에서 빠지지 않습니다 (coordinated omission 보정).
+ * 보내지 못한(dropped) 요청도 같은 이유로 제외하지 않고, 응답을 받지 못한 채 실행이 끝난 것으로 보아
+ * 예정 시각부터 finish() 시각까지를 지연시간으로 기록합니다 (오류로도 집계). 그래서 dropped가 있으면 상위 백분위가 크게 나옵니다.
+ */
+final class LatencyStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> dropped = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongList> droppedIntended = new EnumMap<>(Operation.class);
+
+    LatencyStats() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+            dropped.put(operation, new LongAdder());
+            droppedIntended.put(operation, new LongList());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+        histograms.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /**
+     * 보내지 못한 요청 (디스패치 스레드에서만 호출)
+     *
+     * @param intendedNanos 예정 전송 시각 (System.nanoTime 기준)
+     */
+    void dropped(Operation operation, long intendedNanos) {
+        dropped.get(operation).increment();
+        droppedIntended.get(operation).add(intendedNanos);
+    }
+
+    /**
+     * 보내지 못한 요청을 예정 시각부터 지금까지의 지연시간(실패)으로 기록 (응답 대기가 끝난 뒤 1회 호출)
+     */
+    void finish(long nowNanos) {
+        droppedIntended.forEach((operation, intended) -> {
+            for (int i = 0; i < intended.size(); i++) {
+                record(operation, nowNanos - intended.get(i), false);
+            }
+            intended.clear();
+        });
+    }
+
+    long totalDropped() {
+        return dropped.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * 요청 종류별/전체 백분위 표 출력 (단위 ms)
+     */
+    void print(PrintStream out, Duration measured) {
+        out.printf(Locale.ROOT, "%-8s %9s %8s %8s %9s %9s %9s %9s %9s %9s %10s%n",
+                "op", "count", "errors", "dropped", "p50", "p90", "p99", "p99.9", "p99.99", "max", "req/s");
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            long operationDropped = dropped.get(operation).sum();
+            if (histogram.getTotalCount() == 0 && operationDropped == 0) {
+                continue;
+            }
+            total.add(histogram);
+            totalErrors += errors.get(operation).sum();
+            printRow(out, operation.name().toLowerCase(Locale.ROOT), histogram,
+                    errors.get(operation).sum(), operationDropped, measured);
+        }
+        printRow(out, "total", total, totalErrors, totalDropped(), measured);
+    }
+
+    /**
+     * 요청 종류별 백분위 분포를 .hgrm 파일로 저장 (HdrHistogram plotter 등에서 비교용)
+     */
+    void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            Path file = directory.resolve(operation.name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    /**
+     * 크기가 늘어나는 long 배열 (dropped 요청의 예정 시각 보관, 박싱 없이)
+     */
+    private static final class LongList {
+
+        private long[] values = new long[64];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram, long errors, long dropped,
+                                 Duration measured) {
+        out.printf(Locale.ROOT, "%-8s %9d %8d %8d", label, histogram.getTotalCount(), errors, dropped);
+        for (double percentile : PERCENTILES) {
+            out.printf(Locale.ROOT, " %9.2f", histogram.getValueAtPercentile(percentile) / 1000.0);
+        }
+        out.printf(Locale.ROOT, " %9.2f %10.1f%n", histogram.getMaxValue() / 1000.0,
+                histogram.getTotalCount() / (measured.toMillis() / 1000.0));
+    }
+}
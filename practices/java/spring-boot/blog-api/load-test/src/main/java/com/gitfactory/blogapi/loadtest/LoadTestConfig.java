@@ -0,0 +1,94 @@
+package com.gitfactory.blogapi.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 테스트 설정 (--key=value 형식의 명령행 인자)
+ *
+ * @param baseUrl      대상 서버 (기본 http://localhost:8080)
+ * @param rate         초당 요청 수 (응답과 무관하게 일정한 간격으로 보냄)
+ * @param warmup       측정 전 예열 시간 (이 구간의 요청은 집계하지 않음)
+ * @param duration     측정 시간
+ * @param mix          요청 비율 (프리셋 이름 또는 read:80,search:10,... 형식, OperationMix 참고)
+ * @param seedPosts    시작 전에 등록할 게시글 수 (0이면 등록하지 않고 기존 게시글 사용)
+ * @param zipfExponent 게시글/작성자/검색어 인기도 분포의 Zipf 지수 (클수록 상위 항목에 집중)
+ * @param authors      작성자 수
+ * @param contentSize  게시글 본문 길이 (문자 수)
+ * @param maxInFlight  동시에 응답을 기다리는 요청 상한 (넘으면 보내지 않고 dropped로 집계)
+ * @param randomSeed   요청 순서/대상 선택 난수 시드 (같은 값이면 같은 요청 순서)
+ * @param reportDir    히스토그램(.hgrm) 저장 디렉토리
+ */
+record LoadTestConfig(
+        URI baseUrl,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        OperationMix mix,
+        int seedPosts,
+        double zipfExponent,
+        int authors,
+        int contentSize,
+        int maxInFlight,
+        long randomSeed,
+        Path reportDir
+) {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of(
+            "base-url", "rate", "warmup", "duration", "mix", "seed-posts", "zipf-exponent",
+            "authors", "content-size", "max-in-flight", "random-seed", "report-dir");
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                URI.create(options.getOrDefault("base-url", "http://localhost:8080")),
+                Integer.parseInt(options.getOrDefault("rate", "200")),
+                duration(options.getOrDefault("warmup", "10s")),
+                duration(options.getOrDefault("duration", "60s")),
+                OperationMix.parse(options.getOrDefault("mix", "mixed")),
+                Integer.parseInt(options.getOrDefault("seed-posts", "10000")),
+                Double.parseDouble(options.getOrDefault("zipf-exponent", "0.99")),
+                Integer.parseInt(options.getOrDefault("authors", "100")),
+                Integer.parseInt(options.getOrDefault("content-size", "2000")),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "10000")),
+                Long.parseLong(options.getOrDefault("random-seed", "42")),
+                Path.of(options.getOrDefault("report-dir", "build/reports/load-test")));
+
+        options.keySet().removeAll(KNOWN_OPTIONS);
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        if (config.rate() <= 0) {
+            throw new IllegalArgumentException("rate must be positive: " + config.rate());
+        }
+        return config;
+    }
+
+    /**
+     * 500ms, 30s, 5m 형식 (단위가 없으면 초)
+     */
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
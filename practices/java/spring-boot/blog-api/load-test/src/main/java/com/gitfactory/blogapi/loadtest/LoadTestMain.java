@@ -0,0 +1,45 @@
+package com.gitfactory.blogapi.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트 실행 진입점
+ *
+ * 1. 게시글 등록 (--seed-posts)
+ * 2. 예열 (--warmup, 집계하지 않음)
+ * 3. 일정한 도착률로 측정 (--rate, --duration)
+ * 4. 요청 종류별 지연시간 백분위/처리량 출력 및 .hgrm 저장
+ *
+ * 실행: ./gradlew :load-test:run --args="--rate=500 --duration=60s --mix=mixed"
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        SplittableRandom random = new SplittableRandom(config.randomSeed());
+        BlogApiClient client = new BlogApiClient(config);
+
+        int posts = client.prepare(random);
+        System.out.printf("target=%s posts=%d mix=%s rate=%d/s warmup=%s duration=%s%n",
+                config.baseUrl(), posts, config.mix(), config.rate(), config.warmup(), config.duration());
+
+        OpenLoopRunner runner = new OpenLoopRunner(config, client);
+        LatencyStats stats = runner.run(random);
+
+        System.out.println();
+        System.out.println("latency (ms, from intended send time)");
+        stats.print(System.out, config.duration());
+        System.out.printf("max dispatch lag: %d ms%n", runner.maxDispatchLag().toMillis());
+        if (stats.totalDropped() > 0) {
+            System.out.printf("WARNING: %d requests dropped (max-in-flight=%d reached), "
+                    + "the server did not sustain %d req/s%n", stats.totalDropped(), config.maxInFlight(), config.rate());
+            System.out.println("         dropped requests are counted as errors with latency up to the end of the run");
+        }
+
+        stats.writeDistributions(config.reportDir());
+        System.out.printf("histograms: %s%n", config.reportDir().toAbsolutePath());
+    }
+}
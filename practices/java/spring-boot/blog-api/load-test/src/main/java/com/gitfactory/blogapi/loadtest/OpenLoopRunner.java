@@ -0,0 +1,108 @@
+package com.gitfactory.blogapi.loadtest;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 일정한 도착률(open-loop)로 요청 전송
+ *
+ * 요청 i는 시작 시각 + i/rate 에 보내도록 예정되고, 이전 요청의 응답을 기다리지 않습니다.
+ * (응답을 받아야 다음 요청을 보내는 closed-loop 방식은 서버가 느려지면 보내는 요청도 줄어서
+ *  느린 구간이 결과에 적게 반영됩니다.)
+ * 응답을 기다리는 요청이 maxInFlight를 넘으면 부하 생성기 보호를 위해 보내지 않고 dropped로 집계하며,
+ * dropped가 있으면 서버가 해당 도착률을 감당하지 못한 것으로 봅니다.
+ * dropped 요청은 응답 대기가 끝난 시각까지의 지연시간으로 기록해서 백분위에서 빠지지 않게 합니다 (LatencyStats).
+ */
+final class OpenLoopRunner {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final LoadTestConfig config;
+    private final BlogApiClient client;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private long maxDispatchLagNanos;
+
+    OpenLoopRunner(LoadTestConfig config, BlogApiClient client) {
+        this.config = config;
+        this.client = client;
+    }
+
+    LatencyStats run(SplittableRandom random) throws InterruptedException {
+        LatencyStats stats = new LatencyStats();
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) config.rate();
+        long warmupNanos = config.warmup().toNanos();
+        long totalNanos = warmupNanos + config.duration().toNanos();
+        long start = System.nanoTime();
+
+        for (long i = 0; ; i++) {
+            long offset = (long) (i * intervalNanos);
+            if (offset >= totalNanos) {
+                break;
+            }
+            long intended = start + offset;
+            waitUntil(intended);
+            boolean measured = offset >= warmupNanos;
+            if (measured) {
+                maxDispatchLagNanos = Math.max(maxDispatchLagNanos, System.nanoTime() - intended);
+            }
+
+            Operation operation = config.mix().next(random);
+            HttpRequest request = client.request(operation, random);
+            if (inFlight.get() >= config.maxInFlight()) {
+                if (measured) {
+                    stats.dropped(operation, intended);
+                }
+                continue;
+            }
+            inFlight.incrementAndGet();
+            client.sendAsync(request).whenComplete((response, error) -> {
+                long latency = System.nanoTime() - intended;
+                inFlight.decrementAndGet();
+                if (measured) {
+                    stats.record(operation, latency, error == null && response.statusCode() < 400);
+                }
+            });
+        }
+
+        awaitInFlight();
+        stats.finish(System.nanoTime());
+        return stats;
+    }
+
+    /**
+     * 측정 구간에서 예정 시각보다 늦게 보낸 최대 시간 (크면 부하 생성기 자체가 병목)
+     */
+    Duration maxDispatchLag() {
+        return Duration.ofNanos(maxDispatchLagNanos);
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        if (inFlight.get() > 0) {
+            System.err.printf("%d requests still in flight after %s, excluded from results%n",
+                    inFlight.get(), DRAIN_TIMEOUT);
+        }
+    }
+
+    /**
+     * 예정 시각까지 대기 (마지막 구간은 park 오차를 줄이기 위해 spin)
+     */
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.gitfactory.blogapi.loadtest;
+
+/**
+ * 부하 테스트 요청 종류
+ */
+enum Operation {
+
+    /** GET /api/posts/{id} (Zipf 분포로 인기 게시글에 집중) */
+    READ,
+
+    /** GET /api/posts/search?keyword= */
+    SEARCH,
+
+    /** GET /api/posts/author/{author} */
+    AUTHOR,
+
+    /** POST /api/posts */
+    CREATE,
+
+    /** PUT /api/posts/{id} (조회와 같은 분포, 인기 게시글일수록 자주 수정) */
+    UPDATE
+}
@@ -0,0 +1,76 @@
+package com.gitfactory.blogapi.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 요청 종류별 비율
+ *
+ * 프리셋 이름(read-only, mixed, write-heavy) 또는 read:80,search:10,author:5,create:3,update:2 형식으로 지정합니다.
+ * 비율은 합이 100이 아니어도 되며 상대적인 가중치로 사용합니다.
+ */
+final class OperationMix {
+
+    private static final Map<String, String> PRESETS = Map.of(
+            "read-only", "read:100",
+            "mixed", "read:80,search:7,author:5,create:3,update:5",
+            "write-heavy", "read:50,search:5,author:5,create:20,update:20");
+
+    private final Map<Operation, Integer> weights;
+    private final Operation[] operations;
+    private final int[] cumulative;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        this.weights = weights;
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulative = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += weights.get(operations[i]);
+            cumulative[i] = sum;
+        }
+    }
+
+    static OperationMix parse(String value) {
+        String spec = PRESETS.getOrDefault(value, value);
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "' (expected operation:weight)");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight must not be negative: " + entry);
+            }
+            if (weight > 0) {
+                weights.merge(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no operations: " + value);
+        }
+        return new OperationMix(weights);
+    }
+
+    Operation next(SplittableRandom random) {
+        int value = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (value < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    boolean includes(Operation operation) {
+        return weights.containsKey(operation);
+    }
+
+    @Override
+    public String toString() {
+        return weights.toString();
+    }
+}
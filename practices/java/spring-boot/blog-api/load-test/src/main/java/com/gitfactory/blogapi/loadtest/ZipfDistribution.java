@@ -0,0 +1,40 @@
+package com.gitfactory.blogapi.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 표본 (순위 0이 가장 자주 나옴)
+ *
+ * 순위 k의 확률은 1/(k+1)^s 에 비례합니다. 누적 분포를 미리 계산해 두고 이진 탐색으로 뽑으므로
+ * 항목 수 n에 대해 메모리 O(n), 표본 하나당 O(log n)입니다.
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+
+    int next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.gitfactory.blogapi.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("OperationMix 테스트")
+class OperationMixTest {
+
+    @Test
+    @DisplayName("가중치 비율대로 요청 종류를 고름 (0인 종류는 제외)")
+    void weightedSelection() {
+        // Given
+        OperationMix mix = OperationMix.parse("read:70, create:30, update:0");
+        SplittableRandom random = new SplittableRandom(1);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        // Then
+        assertThat(counts).containsOnlyKeys(Operation.READ, Operation.CREATE);
+        assertThat(counts.get(Operation.READ) / 100_000.0).isCloseTo(0.7, within(0.01));
+        assertThat(mix.includes(Operation.UPDATE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("프리셋 이름으로 지정")
+    void preset() {
+        // When
+        OperationMix mix = OperationMix.parse("read-only");
+
+        // Then
+        assertThat(mix.next(new SplittableRandom())).isEqualTo(Operation.READ);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 요청 종류나 형식이면 예외")
+    void invalid() {
+        assertThatThrownBy(() -> OperationMix.parse("delete:10"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OperationMix.parse("read"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package com.gitfactory.blogapi.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("ZipfDistribution 테스트")
+class ZipfDistributionTest {
+
+    @Test
+    @DisplayName("순위 k의 빈도가 1/(k+1)^s 에 비례")
+    void frequenciesFollowZipf() {
+        // Given
+        ZipfDistribution zipf = new ZipfDistribution(1000, 1.0);
+        SplittableRandom random = new SplittableRandom(42);
+        int samples = 1_000_000;
+        int[] counts = new int[zipf.size()];
+
+        // When
+        for (int i = 0; i < samples; i++) {
+            counts[zipf.next(random)]++;
+        }
+
+        // Then
+        assertThat((double) counts[1] / counts[0]).isCloseTo(1.0 / 2, within(0.02));
+        assertThat((double) counts[9] / counts[0]).isCloseTo(1.0 / 10, within(0.01));
+        assertThat(counts[0]).isGreaterThan(counts[999] * 100);
+    }
+
+    @Test
+    @DisplayName("지수가 0이면 균등 분포, 표본은 항상 범위 안")
+    void uniformWhenExponentZero() {
+        // Given
+        ZipfDistribution zipf = new ZipfDistribution(10, 0.0);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] counts = new int[10];
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            counts[zipf.next(random)]++;
+        }
+
+        // Then
+        for (int count : counts) {
+            assertThat(count).isBetween(9_000, 11_000);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.gitfactory.blogapi.benchmark;
+
+import com.gitfactory.blogapi.dto.PostRequest;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
+import com.gitfactory.blogapi.entity.Post;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 벤치마크 공통 테스트 데이터
+ */
+final class BenchmarkFixtures {
+
+    /** 실제 게시글과 비슷한 길이의 한글/영문 혼합 본문 (약 2KB) */
+    static final String CONTENT = "Spring Boot는 Java 기반의 웹 프레임워크입니다. 설정보다 관례를 우선합니다. "
+            .repeat(30);
+
+    private BenchmarkFixtures() {
+    }
+
+    static PostRequest request(int index) {
+        return new PostRequest("Spring Boot 학습하기 " + index, CONTENT, "홍길동");
+    }
+
+    static PostResponse response(long id) {
+        LocalDateTime now = LocalDateTime.of(2025, 12, 6, 10, 0);
+        return new PostResponse(id, "Spring Boot 학습하기 " + id, CONTENT, "홍길동", now, now.plusHours(5), 0L, 0L);
+    }
+
+    static PostSummaryResponse summary(long id) {
+        LocalDateTime now = LocalDateTime.of(2025, 12, 6, 10, 0);
+        return new PostSummaryResponse(id, "Spring Boot 학습하기 " + id, "홍길동", now, now.plusHours(5), 0L);
+    }
+
+    static List<PostResponse> responses(int size) {
+        return IntStream.rangeClosed(1, size).mapToObj(BenchmarkFixtures::response).toList();
+    }
+
+    static List<PostSummaryResponse> summaries(int size) {
+        return IntStream.rangeClosed(1, size).mapToObj(BenchmarkFixtures::summary).toList();
+    }
+
+    /**
+     * DB에서 조회한 것과 같은 상태(ID, 생성/수정일시, 버전 포함)의 엔티티 생성
+     */
+    static Post persistedPost(long id) {
+        Post post = request((int) id).toEntity();
+        LocalDateTime now = LocalDateTime.of(2025, 12, 6, 10, 0);
+        setField(post, "id", id);
+        setField(post, "createdAt", now);
+        setField(post, "updatedAt", now.plusHours(5));
+        setField(post, "version", 0L);
+        return post;
+    }
+
+    private static void setField(Post post, String name, Object value) {
+        try {
+            Field field = Post.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(post, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
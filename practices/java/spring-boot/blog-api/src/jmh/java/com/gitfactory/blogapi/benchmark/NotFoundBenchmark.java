@@ -0,0 +1,75 @@
+package com.gitfactory.blogapi.benchmark;
+
+import com.gitfactory.blogapi.exception.GlobalExceptionHandler;
+import com.gitfactory.blogapi.exception.PostNotFoundException;
+import com.gitfactory.blogapi.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 404 경로 벤치마크 (예외 생성 + 예외 핸들러에서 응답 객체 생성까지)
+ *
+ * - legacy: RuntimeException(메시지) + 메시지 문자열 검사로 상태 코드 결정 (이전 방식)
+ * - typed: 스택 트레이스 없는 PostNotFoundException + 타입으로 매칭된 ProblemDetail 핸들러
+ *
+ * 실제 요청은 필터/서블릿/프록시를 거친 깊은 호출 스택에서 예외가 발생하므로 stackDepth로 깊이를 흉내 냅니다.
+ * 할당량은 jmh { profilers = ['gc'] } 의 gc.alloc.rate.norm 으로 확인합니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=NotFoundBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotFoundBenchmark {
+
+    @Param({"10", "150"})
+    private int stackDepth;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final long id = 999L;
+
+    @Benchmark
+    public ResponseEntity<String> legacy() {
+        try {
+            throwAt(stackDepth, () -> new RuntimeException("Post not found with id: " + id));
+            throw new AssertionError();
+        } catch (RuntimeException ex) {
+            if (ex.getMessage() != null && ex.getMessage().contains("not found")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.getMessage());
+        }
+    }
+
+    @Benchmark
+    public ProblemDetail typed() {
+        try {
+            throwAt(stackDepth, () -> new PostNotFoundException(id));
+            throw new AssertionError();
+        } catch (ResourceNotFoundException ex) {
+            return handler.handleResourceNotFoundException(ex);
+        }
+    }
+
+    private static void throwAt(int depth, ExceptionFactory factory) {
+        if (depth > 0) {
+            throwAt(depth - 1, factory);
+            return;
+        }
+        throw factory.create();
+    }
+
+    @FunctionalInterface
+    private interface ExceptionFactory {
+        RuntimeException create();
+    }
+}
@@ -0,0 +1,86 @@
+package com.gitfactory.blogapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.jsoncache.PostJsonCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 상세 응답 본문 생성 벤치마크 (약 2KB 게시글, 캐시 히트 기준)
+ *
+ * - jackson / jacksonGzip: 요청마다 직렬화 (+ GZIPOutputStream 압축) (이전 방식)
+ * - cached / cachedGzip: PostJsonCache의 바이트에 조회수만 끼워서 출력
+ *
+ * 조회수는 호출마다 바뀌도록 증가시킵니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=PostJsonCacheBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PostJsonCacheBenchmark {
+
+    private ObjectMapper objectMapper;
+    private PostJsonCache cache;
+    private PostResponse post;
+    private long viewCount;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        cache = new PostJsonCache(objectMapper,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class),
+                DataSize.ofMegabytes(64), Duration.ofMinutes(10),
+                true, DataSize.ofKilobytes(1), Deflater.DEFAULT_COMPRESSION);
+        post = BenchmarkFixtures.response(1L);
+    }
+
+    @Benchmark
+    public byte[] jackson() throws IOException {
+        return objectMapper.writeValueAsBytes(post.withViewCount(++viewCount));
+    }
+
+    @Benchmark
+    public byte[] jacksonGzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, post.withViewCount(++viewCount));
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] cached() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.body(1L, post, ++viewCount, false).writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] cachedGzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.body(1L, post, ++viewCount, true).writeTo(out);
+        return out.toByteArray();
+    }
+}
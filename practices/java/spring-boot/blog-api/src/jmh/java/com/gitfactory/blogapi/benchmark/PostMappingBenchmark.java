@@ -0,0 +1,42 @@
+package com.gitfactory.blogapi.benchmark;
+
+import com.gitfactory.blogapi.dto.PostRequest;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.entity.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity ↔ DTO 변환 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostMappingBenchmark {
+
+    private Post post;
+    private PostRequest request;
+
+    @Setup
+    public void setUp() {
+        post = BenchmarkFixtures.persistedPost(1L);
+        request = BenchmarkFixtures.request(1);
+    }
+
+    @Benchmark
+    public PostResponse entityToResponse() {
+        return PostResponse.from(post);
+    }
+
+    @Benchmark
+    public Post requestToEntity() {
+        return request.toEntity();
+    }
+}
@@ -0,0 +1,58 @@
+package com.gitfactory.blogapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 JSON 직렬화 벤치마크 (전체 필드 vs 요약)
+ *
+ * ObjectMapper는 Spring Boot 기본 설정(JavaTimeModule, ISO 날짜 문자열)과 동일하게 구성합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PostSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int listSize;
+
+    private ObjectWriter writer;
+    private List<PostResponse> responses;
+    private List<PostSummaryResponse> summaries;
+
+    @Setup
+    public void setUp() {
+        writer = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        responses = BenchmarkFixtures.responses(listSize);
+        summaries = BenchmarkFixtures.summaries(listSize);
+    }
+
+    @Benchmark
+    public byte[] serializeFullList() throws Exception {
+        return writer.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryList() throws Exception {
+        return writer.writeValueAsBytes(summaries);
+    }
+}
@@ -0,0 +1,121 @@
+package com.gitfactory.blogapi.benchmark;
+
+import com.gitfactory.blogapi.BlogApiApplication;
+import com.gitfactory.blogapi.config.CacheConfig;
+import com.gitfactory.blogapi.dto.BatchItemResult;
+import com.gitfactory.blogapi.dto.CursorPageResponse;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.service.PostBatchService;
+import com.gitfactory.blogapi.service.PostService;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * PostService 벤치마크 (인메모리 H2)
+ *
+ * 웹 계층 없이 Spring 컨텍스트를 띄우고, Trial 시작 시 게시글을 대량 등록한 뒤 측정합니다.
+ * 단건 조회는 캐시 히트 경로(getPostById_CacheHit, 워밍업 이후 모두 posts 캐시에서 반환)와
+ * 캐시 미스 경로(getPostById_CacheMiss, 매 호출 전에 posts 캐시와 2차 캐시에서 제거해 DB 조회)를 나눠 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PostServiceBenchmark {
+
+    @Param({"1000"})
+    private int postCount;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private Cache postsCache;
+    private jakarta.persistence.Cache entityCache;
+    private List<Long> postIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(BlogApiApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        // application.properties보다 우선하도록 명령행 인자로 전달
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        postService = context.getBean(PostService.class);
+        postsCache = context.getBean(CacheManager.class).getCache(CacheConfig.POSTS_CACHE);
+        entityCache = context.getBean(EntityManagerFactory.class).getCache();
+
+        PostBatchService batchService = context.getBean(PostBatchService.class);
+        postIds = batchService.createPosts(IntStream.range(0, postCount)
+                        .mapToObj(BenchmarkFixtures::request)
+                        .toList())
+                .results().stream()
+                .map(BatchItemResult::id)
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 캐시 히트 경로 (posts 캐시 조회 + 응답 반환)
+     */
+    @Benchmark
+    public PostResponse getPostById_CacheHit() {
+        return postService.getPostById(randomId());
+    }
+
+    /**
+     * 캐시 미스 경로 (트랜잭션 + SELECT + 매핑 + 캐시 저장, 캐시 제거 비용 포함)
+     */
+    @Benchmark
+    public PostResponse getPostById_CacheMiss() {
+        Long id = randomId();
+        postsCache.evict(id);
+        entityCache.evict(Post.class, id);
+        return postService.getPostById(id);
+    }
+
+    @Benchmark
+    public CursorPageResponse<PostSummaryResponse> getPostSummaryPage() {
+        return postService.getPostSummaryPage(null, 20);
+    }
+
+    @Benchmark
+    public CursorPageResponse<PostResponse> getPostPage() {
+        return postService.getPostPage(null, 20);
+    }
+
+    @Benchmark
+    public List<PostSummaryResponse> searchSummaries() {
+        return postService.searchSummaries("학습하기", 0, 20);
+    }
+
+    private Long randomId() {
+        return postIds.get(ThreadLocalRandom.current().nextInt(postIds.size()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.gitfactory.blogapi.benchmark;
+
+import com.gitfactory.blogapi.BlogApiApplication;
+import com.gitfactory.blogapi.dto.CursorPageResponse;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
+import com.gitfactory.blogapi.service.PostBatchService;
+import com.gitfactory.blogapi.service.PostService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * SQL 로그 설정별 조회 처리량 비교 (인메모리 H2)
+ *
+ * - default: application.properties 그대로 (show-sql, format_sql, SQL DEBUG, 바인딩 TRACE)
+ * - prod: prod 프로필 (SQL 로그 끔, 느린 쿼리만 기록, JSON + 비동기 출력)
+ *
+ * 캐시를 거치지 않는 조회로 요청마다 SQL이 실행되도록 합니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=SqlLoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SqlLoggingBenchmark {
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(BlogApiApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        if ("prod".equals(profile)) {
+            application.setAdditionalProfiles("prod");
+        }
+        context = application.run("--spring.datasource.url=jdbc:h2:mem:logging-benchmark;DB_CLOSE_DELAY=-1");
+        postService = context.getBean(PostService.class);
+
+        context.getBean(PostBatchService.class).createPosts(IntStream.range(0, 1000)
+                .mapToObj(BenchmarkFixtures::request)
+                .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPageResponse<PostSummaryResponse> getPostSummaryPageByAuthor() {
+        return postService.getPostSummaryPageByAuthor("홍길동", null, 20);
+    }
+
+    @Benchmark
+    public CursorPageResponse<PostResponse> getPostPage() {
+        return postService.getPostPage(null, 20);
+    }
+}
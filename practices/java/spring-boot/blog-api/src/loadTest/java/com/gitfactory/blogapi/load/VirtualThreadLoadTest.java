@@ -0,0 +1,168 @@
+package com.gitfactory.blogapi.load;
+
+import com.gitfactory.blogapi.BlogApiApplication;
+import com.gitfactory.blogapi.dto.PostRequest;
+import com.gitfactory.blogapi.service.PostBatchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드(virtual 프로필) vs 플랫폼 스레드(기본 Tomcat 풀) 처리량 비교
+ *
+ * 같은 H2 데이터와 같은 커넥션 풀 크기로 애플리케이션을 두 번 띄우고,
+ * 동시 클라이언트가 조회 API를 호출한 처리량을 출력합니다.
+ * 처리량은 실행 환경(CPU 수, 다른 부하)에 따라 크게 달라지므로 비교 결과는 출력만 하고,
+ * 검증은 두 실행 모두 오류 없이 끝났는지만 확인합니다.
+ * 실행: ./gradlew loadTest
+ */
+@Tag("load")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisplayName("가상 스레드 부하 테스트")
+class VirtualThreadLoadTest {
+
+    private static final int SEED_POSTS = 500;
+    private static final int CLIENTS = 500;
+    private static final int REQUESTS_PER_CLIENT = 40;
+    private static final int DB_POOL_SIZE = 20;
+
+    @Test
+    @DisplayName("가상 스레드와 플랫폼 스레드 처리량 비교")
+    void virtualThreadsVersusPlatformThreads() throws Exception {
+        // When
+        LoadResult platform = measure("platform", false);
+        LoadResult virtual = measure("virtual", true);
+
+        System.out.printf("platform threads: %s%n", platform);
+        System.out.printf("virtual threads : %s%n", virtual);
+        System.out.printf("virtual / platform: %.2f%n", virtual.throughput() / platform.throughput());
+
+        // Then
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+    }
+
+    private static LoadResult measure(String label, boolean virtualThreads) throws Exception {
+        SpringApplication application = new SpringApplication(BlogApiApplication.class);
+        if (virtualThreads) {
+            application.setAdditionalProfiles("virtual");
+        }
+
+        try (ConfigurableApplicationContext context = application.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + label + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=" + DB_POOL_SIZE,
+                // 스레드 모델 자체의 처리량을 비교하므로 동시 실행 제한(503 거절)은 끔
+                "--blog.concurrency.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")) {
+
+            List<Long> ids = seed(context.getBean(PostBatchService.class));
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+
+            // JIT/커넥션 준비를 위한 짧은 예열 후 측정
+            runClients(baseUri, ids, CLIENTS / 10, REQUESTS_PER_CLIENT / 4);
+            return runClients(baseUri, ids, CLIENTS, REQUESTS_PER_CLIENT);
+        }
+    }
+
+    private static List<Long> seed(PostBatchService batchService) {
+        List<PostRequest> requests = IntStream.range(0, SEED_POSTS)
+                .mapToObj(i -> new PostRequest("부하 테스트 " + i, "본문 " + i, "author" + (i % 10)))
+                .toList();
+        return batchService.createPosts(requests).results().stream()
+                .map(result -> result.id())
+                .toList();
+    }
+
+    /**
+     * 클라이언트마다 가상 스레드 하나로 요청을 순차 전송 (closed-loop)
+     */
+    private static LoadResult runClients(URI baseUri, List<Long> ids, int clients, int requestsPerClient)
+            throws InterruptedException {
+        LongAdder completed = new LongAdder();
+        LongAdder errors = new LongAdder();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(executor)
+                     .build()) {
+
+            List<Runnable> tasks = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                tasks.add(() -> {
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        try {
+                            HttpResponse<Void> response = client.send(nextRequest(baseUri, ids),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                completed.increment();
+                            } else {
+                                errors.increment();
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+
+            long started = System.nanoTime();
+            try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+                tasks.forEach(clientThreads::submit);
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+            return new LoadResult(completed.sum(), errors.sum(), elapsed);
+        }
+    }
+
+    /**
+     * 목록 페이지 조회와 상세 조회를 절반씩 섞어서 요청
+     */
+    private static HttpRequest nextRequest(URI baseUri, List<Long> ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path = random.nextBoolean()
+                ? "/api/posts?size=20"
+                : "/api/posts/" + ids.get(random.nextInt(ids.size()));
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private record LoadResult(long completed, long errors, Duration elapsed) {
+
+        double throughput() {
+            return completed / (elapsed.toNanos() / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d ok, %d errors in %d ms (%.0f req/s)",
+                    completed, errors, elapsed.toMillis(), throughput());
+        }
+    }
+}
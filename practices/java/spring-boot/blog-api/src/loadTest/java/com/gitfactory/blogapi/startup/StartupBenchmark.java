@@ -0,0 +1,163 @@
+package com.gitfactory.blogapi.startup;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 방식별 시작 시간(첫 요청 응답까지) / 메모리(RSS) 측정
+ *
+ * 애플리케이션을 별도 프로세스로 띄우고, 프로세스 시작부터 GET /api/posts가 처음 200을 반환할 때까지의
+ * 시간과 그 시점의 RSS를 모드별로 여러 번 측정해서 중앙값을 출력합니다.
+ *
+ * - jvm: 압축을 푼 jar (java -jar)
+ * - cds: + CDS 아카이브 (-XX:SharedArchiveFile)
+ * - aot, aot-cds: + Spring AOT 처리 결과 사용 (-Paot / -Pnative로 빌드한 경우)
+ * - native: GraalVM 네이티브 실행 파일 (./gradlew nativeCompile -Pnative로 만든 경우)
+ *
+ * 실행: ./gradlew startupBenchmark [-Paot] (build.gradle에서 아래 시스템 프로퍼티를 전달)
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    /** 측정에 영향을 주지 않도록 SQL 로그를 끄고 프로세스마다 새 인메모리 DB 사용 */
+    private static final List<String> APP_ARGS = List.of(
+            "--spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        String java = System.getProperty("startup.java", "java");
+        Path dir = Path.of(System.getProperty("startup.dir", "build/cds"));
+        String jar = System.getProperty("startup.jar");
+        Path archive = dir.resolve(System.getProperty("startup.archive", "application.jsa"));
+        Path nativeImage = Path.of(System.getProperty("startup.native", "build/native/nativeCompile/blog-api"));
+        boolean aot = Boolean.getBoolean("startup.aot");
+        int runs = Integer.getInteger("startup.runs", 5);
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("jvm", List.of(java, "-jar", jar));
+        if (Files.exists(archive)) {
+            modes.put("cds", List.of(java, "-XX:SharedArchiveFile=" + archive.getFileName(), "-jar", jar));
+        }
+        if (aot) {
+            modes.put("aot", List.of(java, "-Dspring.aot.enabled=true", "-jar", jar));
+            if (Files.exists(archive)) {
+                modes.put("aot-cds", List.of(java, "-Dspring.aot.enabled=true",
+                        "-XX:SharedArchiveFile=" + archive.getFileName(), "-jar", jar));
+            }
+        }
+        if (Files.isExecutable(nativeImage)) {
+            modes.put("native", List.of(nativeImage.toAbsolutePath().toString()));
+        }
+
+        StartupBenchmark benchmark = new StartupBenchmark();
+        System.out.printf("%-8s %22s %14s%n", "mode", "first request (ms)", "RSS (MB)");
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            long[] millis = new long[runs];
+            long[] rssKb = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                Sample sample = benchmark.measure(mode.getValue(), dir);
+                millis[i] = sample.millis();
+                rssKb[i] = sample.rssKb();
+            }
+            System.out.printf("%-8s %22d %14.1f%n", mode.getKey(), median(millis), median(rssKb) / 1024.0);
+        }
+    }
+
+    private Sample measure(List<String> command, Path workingDir) throws Exception {
+        int port = freePort();
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+        fullCommand.addAll(APP_ARGS);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(fullCommand)
+                .directory(workingDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            awaitFirstResponse(process, URI.create("http://localhost:" + port + "/api/posts"));
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new Sample(millis, rssKb(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void awaitFirstResponse(Process process, URI uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Process exited with code " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // 아직 포트를 열지 않음
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("No response from " + uri + " within " + STARTUP_TIMEOUT);
+    }
+
+    /**
+     * 프로세스 RSS (KB, Linux는 /proc, 그 외는 ps)
+     */
+    private static long rssKb(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (Files.exists(status)) {
+            return Files.readAllLines(status).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                    .findFirst()
+                    .orElse(-1);
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+        String output = new String(ps.getInputStream().readAllBytes()).trim();
+        ps.waitFor();
+        return output.isEmpty() ? -1 : Long.parseLong(output);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private record Sample(long millis, long rssKb) {
+    }
+}
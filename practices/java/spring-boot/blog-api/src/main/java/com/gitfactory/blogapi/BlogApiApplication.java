@@ -1,10 +1,13 @@
 package com.gitfactory.blogapi;
 
+import com.gitfactory.blogapi.config.BlogRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @SpringBootApplication
+@ImportRuntimeHints(BlogRuntimeHints.class)
 public class BlogApiApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,72 @@
+package com.gitfactory.blogapi.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD(가산 증가, 승산 감소) 방식의 적응형 동시 실행 한도
+ *
+ * - 지연시간이 정상이고 한도의 절반 이상을 쓰고 있으면 응답마다 1/limit씩 증가 (한도만큼 응답이 오면 약 +1)
+ * - 혼잡(지연시간 초과, DB 커넥션 대기 실패)이면 backoffRatio를 곱해서 감소
+ *
+ * 혼잡해지면 동시에 처리 중이던 요청들이 한꺼번에 느린 응답을 내므로, 이들이 모두 한도를 깎으면
+ * 한 번의 지연에 한도가 바닥까지 떨어집니다. 그래서 마지막 감소 이후에 시작한 요청만 다시 감소시킬 수 있습니다
+ * (TCP 혼잡 제어처럼 한 왕복 구간에 한 번만 감소).
+ */
+class AimdLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double limit;
+    private volatile int currentLimit;
+    private boolean decreased;
+    private long lastDecreaseNanos;
+
+    AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Expected 1 <= min-limit <= initial-limit <= max-limit but got "
+                    + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoff-ratio must be between 0 and 1: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+        this.currentLimit = initialLimit;
+    }
+
+    int get() {
+        return currentLimit;
+    }
+
+    /**
+     * 처리가 끝난 요청 하나를 반영
+     *
+     * @param startNanos 요청 시작 시각 (System.nanoTime)
+     * @param endNanos   요청 종료 시각 (System.nanoTime)
+     * @param inFlight   요청을 받아들일 때의 동시 처리 수 (자신 포함)
+     * @param congested  지연시간 초과 또는 DB 과부하 응답이었는지
+     */
+    void onSample(long startNanos, long endNanos, int inFlight, boolean congested) {
+        lock.lock();
+        try {
+            if (congested) {
+                if (decreased && startNanos - lastDecreaseNanos < 0) {
+                    return;
+                }
+                limit = Math.max(minLimit, limit * backoffRatio);
+                decreased = true;
+                lastDecreaseNanos = endNanos;
+            } else if (inFlight * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            currentLimit = (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
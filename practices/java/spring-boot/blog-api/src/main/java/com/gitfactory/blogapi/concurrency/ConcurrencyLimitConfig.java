@@ -0,0 +1,48 @@
+package com.gitfactory.blogapi.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * 게시글 API 동시 실행 제한 필터 등록 (서블릿 스택 전용, blog.concurrency.enabled=false면 비활성화)
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "blog.concurrency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter(
+            @Value("${blog.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${blog.concurrency.min-limit:2}") int minLimit,
+            @Value("${blog.concurrency.max-limit:200}") int maxLimit,
+            @Value("${blog.concurrency.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${blog.concurrency.read.share:0.8}") double readShare,
+            @Value("${blog.concurrency.read.latency-threshold:250ms}") Duration readLatencyThreshold,
+            @Value("${blog.concurrency.write.latency-threshold:500ms}") Duration writeLatencyThreshold,
+            MeterRegistry meterRegistry) {
+        return new ConcurrencyLimiter(new AimdLimit(initialLimit, minLimit, maxLimit, backoffRatio),
+                readShare, readLatencyThreshold, writeLatencyThreshold, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimiter concurrencyLimiter,
+            ObjectMapper objectMapper,
+            @Value("${blog.concurrency.retry-after:1s}") Duration retryAfter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(concurrencyLimiter, objectMapper, retryAfter));
+        registration.addUrlPatterns("/api/posts/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
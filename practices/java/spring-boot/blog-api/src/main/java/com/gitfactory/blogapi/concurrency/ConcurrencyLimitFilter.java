@@ -0,0 +1,147 @@
+package com.gitfactory.blogapi.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 게시글 API 동시 실행 제한 필터 (PostController/PostService 앞단)
+ *
+ * 한도를 넘는 요청은 컨트롤러에 들어가기 전에 503 + Retry-After(ProblemDetail)로 바로 거절해서,
+ * DB 커넥션 대기열에서 시간 초과될 때까지 쌓이지 않도록 합니다.
+ * GET/HEAD는 조회, 그 외는 쓰기로 구분합니다.
+ * 처리 시간이 본래 긴 대량 작업(내보내기, 대량 등록)은 지연시간 기준이 맞지 않으므로 제한하지 않습니다.
+ *
+ * 지연시간은 핸들러가 응답 본문을 쓰기 시작한 시점까지만 잽니다.
+ * 느린 클라이언트로 본문을 전송하는 시간까지 포함하면 서버가 혼잡하지 않아도 한도가 줄기 때문입니다.
+ * 처리 중 예외가 필터까지 올라오면 응답 상태가 아직 200일 수 있으므로 성공으로 반영하지 않습니다.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of(HttpMethod.GET.name(), HttpMethod.HEAD.name());
+    private static final Set<String> EXCLUDED_PATHS = Set.of("/api/posts/export", "/api/posts/batch");
+
+    private final ConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiter limiter, ObjectMapper objectMapper, Duration retryAfter) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return EXCLUDED_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ConcurrencyLimiter.Kind kind = READ_METHODS.contains(request.getMethod())
+                ? ConcurrencyLimiter.Kind.READ
+                : ConcurrencyLimiter.Kind.WRITE;
+        ConcurrencyLimiter.Permit permit = limiter.tryAcquire(kind);
+        if (permit == null) {
+            reject(request, response);
+            return;
+        }
+
+        HandlerTimingResponse timedResponse = new HandlerTimingResponse(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, timedResponse);
+            completed = true;
+        } finally {
+            if (completed) {
+                // 503은 커넥션 풀 대기 시간 초과(GlobalExceptionHandler) → 지연시간과 관계없이 혼잡으로 반영
+                permit.release(response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        timedResponse.handledNanos());
+            } else {
+                permit.drop();
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE,
+                "Too many concurrent requests, please retry");
+        problem.setInstance(URI.create(request.getRequestURI()));
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    /**
+     * 핸들러가 응답을 쓰기 시작한 시각을 기록하는 응답 래퍼
+     * (본문을 쓰지 않은 응답은 필터 체인이 끝난 시각 사용)
+     */
+    private static final class HandlerTimingResponse extends HttpServletResponseWrapper {
+
+        private boolean handled;
+        private long handledNanos;
+
+        HandlerTimingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            markHandled();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            markHandled();
+            return super.getWriter();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            markHandled();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            markHandled();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            markHandled();
+            super.flushBuffer();
+        }
+
+        long handledNanos() {
+            return handled ? handledNanos : System.nanoTime();
+        }
+
+        private void markHandled() {
+            if (!handled) {
+                handled = true;
+                handledNanos = System.nanoTime();
+            }
+        }
+    }
+}
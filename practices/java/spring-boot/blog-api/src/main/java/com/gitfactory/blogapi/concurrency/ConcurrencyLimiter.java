@@ -0,0 +1,146 @@
+package com.gitfactory.blogapi.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 조회/쓰기 요청의 동시 실행 수 제한 (DB 앞단 admission control)
+ *
+ * 조회와 쓰기는 같은 DB 커넥션 풀을 쓰므로 하나의 적응형 한도(AimdLimit)를 나눠 씁니다.
+ * - 쓰기: 전체 한도까지 사용 가능 (우선순위 높음)
+ * - 조회: 전체 한도의 readShare까지만 사용 → 조회가 몰려도 쓰기용 여유분이 남고, 과부하 시 조회부터 거절
+ * 한도는 요청 종류별 지연시간 기준(latency threshold)을 넘는 응답이 나오면 줄고, 정상이면 서서히 늘어납니다.
+ */
+public class ConcurrencyLimiter {
+
+    /**
+     * 요청 종류 (HTTP 메서드로 구분)
+     */
+    public enum Kind {
+        READ,
+        WRITE
+    }
+
+    private final AimdLimit limit;
+    private final double readShare;
+    private final Map<Kind, Long> latencyThresholdNanos = new EnumMap<>(Kind.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Kind, AtomicInteger> inFlightByKind = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> rejected = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> dropped = new EnumMap<>(Kind.class);
+
+    ConcurrencyLimiter(AimdLimit limit, double readShare, Duration readLatencyThreshold,
+                       Duration writeLatencyThreshold, MeterRegistry meterRegistry) {
+        if (readShare <= 0 || readShare > 1) {
+            throw new IllegalArgumentException("read share must be in (0, 1]: " + readShare);
+        }
+        this.limit = limit;
+        this.readShare = readShare;
+        latencyThresholdNanos.put(Kind.READ, readLatencyThreshold.toNanos());
+        latencyThresholdNanos.put(Kind.WRITE, writeLatencyThreshold.toNanos());
+
+        Gauge.builder("blog.concurrency.limit", limit, AimdLimit::get)
+                .description("Adaptive limit of concurrent API requests (reads may use read.share of it)")
+                .register(meterRegistry);
+        for (Kind kind : Kind.values()) {
+            AtomicInteger count = new AtomicInteger();
+            inFlightByKind.put(kind, count);
+            String tag = kind.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("blog.concurrency.inflight", count, AtomicInteger::get)
+                    .description("API requests currently being processed")
+                    .tag("kind", tag)
+                    .register(meterRegistry);
+            rejected.put(kind, Counter.builder("blog.concurrency.rejected")
+                    .description("API requests rejected with 503 because the concurrency limit was reached")
+                    .tag("kind", tag)
+                    .register(meterRegistry));
+            dropped.put(kind, Counter.builder("blog.concurrency.dropped")
+                    .description("API requests that ended with an exception and were not used to adjust the limit")
+                    .tag("kind", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 실행 허가 요청
+     *
+     * @return 허가 (처리가 끝나면 반드시 release), 한도 초과면 null
+     */
+    public Permit tryAcquire(Kind kind) {
+        int currentLimit = limit.get();
+        int kindLimit = kind == Kind.READ ? Math.max(1, (int) (currentLimit * readShare)) : currentLimit;
+        AtomicInteger kindInFlight = inFlightByKind.get(kind);
+
+        // 먼저 늘리고 넘치면 되돌림 (경계에서 동시에 들어온 요청은 둘 다 거절될 수 있지만 한도를 넘지는 않음)
+        int total = inFlight.incrementAndGet();
+        int ofKind = kindInFlight.incrementAndGet();
+        if (total > currentLimit || ofKind > kindLimit) {
+            kindInFlight.decrementAndGet();
+            inFlight.decrementAndGet();
+            rejected.get(kind).increment();
+            return null;
+        }
+        return new Permit(kind, System.nanoTime(), total);
+    }
+
+    int limit() {
+        return limit.get();
+    }
+
+    /**
+     * 실행 허가 (요청 하나당 한 번 release)
+     */
+    public final class Permit {
+
+        private final Kind kind;
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(Kind kind, long startNanos, int inFlightAtStart) {
+            this.kind = kind;
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * 처리 종료 (지금까지의 지연시간을 한도에 반영)
+         *
+         * @param overloaded DB 커넥션 대기 실패 등 과부하 응답(503)이었는지
+         */
+        public void release(boolean overloaded) {
+            release(overloaded, System.nanoTime());
+        }
+
+        /**
+         * 처리 종료 (지정한 시각까지의 지연시간을 한도에 반영)
+         *
+         * @param overloaded DB 커넥션 대기 실패 등 과부하 응답(503)이었는지
+         * @param endNanos   처리가 끝난 시각 (System.nanoTime, 본문 전송 시간 제외)
+         */
+        public void release(boolean overloaded, long endNanos) {
+            decrementInFlight();
+            boolean congested = overloaded || endNanos - startNanos > latencyThresholdNanos.get(kind);
+            limit.onSample(startNanos, endNanos, inFlightAtStart, congested);
+        }
+
+        /**
+         * 결과를 알 수 없는 처리 종료 (예외 등, 한도는 바꾸지 않고 실행 수만 돌려놓음)
+         */
+        public void drop() {
+            decrementInFlight();
+            dropped.get(kind).increment();
+        }
+
+        private void decrementInFlight() {
+            inFlightByKind.get(kind).decrementAndGet();
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.gitfactory.blogapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 비동기(@Async) 및 스케줄링(@Scheduled) 활성화
+ *
+ * 실행기는 Spring Boot 자동 설정(applicationTaskExecutor, taskScheduler)을 그대로 사용합니다.
+ * virtual 프로필(spring.threads.virtual.enabled=true, Java 21 이상)에서는 두 실행기 모두
+ * 가상 스레드 기반으로 전환되므로 별도 실행기를 정의하지 않습니다.
+ */
+@Configuration
+@EnableAsync(proxyTargetClass = true)
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,54 @@
+package com.gitfactory.blogapi.config;
+
+import com.gitfactory.blogapi.dto.BatchCreateResponse;
+import com.gitfactory.blogapi.dto.BatchItemResult;
+import com.gitfactory.blogapi.dto.CacheStatsResponse;
+import com.gitfactory.blogapi.dto.CursorPageResponse;
+import com.gitfactory.blogapi.dto.PostPatchRequest;
+import com.gitfactory.blogapi.dto.PostRequest;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * 네이티브 이미지(-Pnative)용 런타임 힌트
+ *
+ * Spring AOT가 자동으로 등록하지 못하는, 리플렉션/리소스로만 접근하는 대상을 등록합니다.
+ * (엔티티(Post)와 리스너는 JPA AOT 처리, 컨트롤러 요청/응답 타입과 logback-spring.xml의 클래스는
+ *  Spring/Spring Boot AOT, springdoc 자체 클래스는 springdoc의 힌트가 등록합니다.)
+ *
+ * - DTO: PostJsonCache/PostExportService가 ObjectMapper로 직접 직렬화하고, springdoc이 @Schema를 읽음
+ * - QueryCountDataSource: 커넥션/Statement를 JDK 동적 프록시로 감쌈
+ * - Flyway 마이그레이션(.sql, .conf): 기본 위치(db/migration)가 아닌 벤더별 하위 디렉토리 사용
+ * (reactive 프로필의 R2DBC 결과 레코드는 -Preactive 빌드에만 포함되므로 ReactiveConfig가 따로 등록)
+ */
+public class BlogRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                PostRequest.class,
+                PostPatchRequest.class,
+                PostResponse.class,
+                PostSummaryResponse.class,
+                CursorPageResponse.class,
+                BatchCreateResponse.class,
+                BatchItemResult.class,
+                CacheStatsResponse.class);
+
+        hints.proxies()
+                .registerJdkProxy(Connection.class)
+                .registerJdkProxy(Statement.class)
+                .registerJdkProxy(PreparedStatement.class)
+                .registerJdkProxy(CallableStatement.class);
+
+        hints.resources().registerPattern("db/migration/*/*");
+    }
+}
@@ -0,0 +1,49 @@
+package com.gitfactory.blogapi.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+/**
+ * 캐시 설정
+ *
+ * 캐시 인터셉터를 트랜잭션 인터셉터보다 바깥에 두어,
+ * 캐시 히트 시 트랜잭션 시작(커넥션 획득) 없이 바로 반환되도록 합니다.
+ * 캐시 크기/TTL은 application.properties의 spring.cache.caffeine.spec으로 설정합니다.
+ * posts 캐시는 무효화와 경합한 로딩 결과를 저장하지 않는 InvalidationSafeCaffeineCache를 사용합니다.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    /** 게시글 단건 조회 캐시 (key: 게시글 ID, value: PostResponse) */
+    public static final String POSTS_CACHE = "posts";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                if (POSTS_CACHE.equals(name)) {
+                    return new InvalidationSafeCaffeineCache(name, cache, isAllowNullValues());
+                }
+                return super.adaptCaffeineCache(name, cache);
+            }
+        };
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            cacheManager.setCacheSpecification(spec);
+        }
+        cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,72 @@
+package com.gitfactory.blogapi.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine)
+ *
+ * 영역(region)별 크기/TTL을 application.properties(blog.hibernate-cache.*)로 받아 CacheManager를 직접 만들고,
+ * Hibernate에는 hibernate.javax.cache.cache_manager로 전달합니다.
+ * 설정에 없는 영역은 만들지 않으므로(missing_cache_strategy=fail) 크기 제한 없는 캐시가 생기지 않습니다.
+ *
+ * - post: Post 엔티티 (id → 엔티티 상태)
+ * - post-queries: 쿼리 캐시 결과 (엔티티 쿼리는 id 목록만 저장하고 엔티티는 post 영역에서 읽음)
+ * - default-update-timestamps-region: 테이블별 마지막 수정 시각. 쿼리 캐시 무효화 판단에 쓰이므로 만료시키지 않음
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /** Post 엔티티 영역 */
+    public static final String POST_REGION = "post";
+
+    /** Post 조회 쿼리 결과 영역 */
+    public static final String POST_QUERY_REGION = "post-queries";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${blog.hibernate-cache.post.max-size:10000}") long postMaxSize,
+            @Value("${blog.hibernate-cache.post.ttl:10m}") Duration postTtl,
+            @Value("${blog.hibernate-cache.query.max-size:1000}") long queryMaxSize,
+            @Value("${blog.hibernate-cache.query.ttl:1m}") Duration queryTtl,
+            @Value("${blog.hibernate-cache.statistics:true}") boolean statistics) {
+        // 컨텍스트마다 별도의 CacheManager (테스트에서 컨텍스트가 여러 개 떠도 영역 이름이 겹치지 않음)
+        CachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), provider.getDefaultClassLoader());
+        cacheManager.createCache(POST_REGION, region(postMaxSize, postTtl, statistics));
+        cacheManager.createCache(POST_QUERY_REGION, region(queryMaxSize, queryTtl, statistics));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                region(null, null, statistics));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(Long maxSize, Duration ttl, boolean statistics) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate 캐시 항목은 불변이므로 직렬화 복사 없이 참조로 저장
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(statistics);
+        if (maxSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+}
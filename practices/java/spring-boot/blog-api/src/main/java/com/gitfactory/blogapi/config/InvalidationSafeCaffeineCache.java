@@ -0,0 +1,151 @@
+package com.gitfactory.blogapi.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 무효화와 동시에 채워져도 무효화 이전 값이 다시 저장되지 않는 Caffeine 캐시
+ *
+ * 캐시 미스 시 DB에서 읽는 도중 다른 요청이 수정을 커밋하고 evict하면,
+ * 먼저 읽어둔(수정 전) 값이 evict 이후에 저장되어 TTL 동안 남을 수 있습니다.
+ * 이를 막기 위해 키별 무효화 횟수(stamp)를 두고, 로딩 시작 후 무효화가 있었으면 저장하지 않습니다.
+ * stamp 확인과 저장, 무효화는 같은 키에 대한 compute 안에서 실행되므로 서로 끼어들지 않습니다.
+ * (compute 안에서는 DB 조회 없이 메모리 연산만 하므로 잠금 구간이 짧음)
+ *
+ * 같은 키의 동시 미스는 먼저 온 요청 하나만 로딩하고, 나머지는 진행 중인 로딩(CompletableFuture)의 결과를 기다립니다.
+ * 무효화되면 진행 중인 로딩도 목록에서 빼므로, 무효화 이후에 온 요청은 수정 전 값을 기다리지 않고 새로 로딩합니다.
+ *
+ * stamp는 키 해시로 나눈 고정 개수 슬롯에 저장하므로 메모리 사용량이 키 개수와 무관합니다.
+ * 같은 슬롯의 다른 키가 무효화되면 이번 로딩 결과를 저장하지 않을 뿐(다음 조회에서 다시 로딩) 정확성에는 영향이 없습니다.
+ * 로딩 결과 저장은 @Cacheable(sync = true)가 호출하는 get(key, valueLoader)에서만 보호됩니다.
+ */
+public class InvalidationSafeCaffeineCache extends CaffeineCache {
+
+    private static final int STAMP_SLOTS = 1024;
+
+    private final ConcurrentMap<Object, Object> store;
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_SLOTS);
+    private final ConcurrentMap<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+    public InvalidationSafeCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+        this.store = cache.asMap();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> inProgress = loads.putIfAbsent(key, loading);
+        if (inProgress != null) {
+            return (T) fromStoreValue(await(key, valueLoader, inProgress));
+        }
+        try {
+            Object storeValue = load(key, valueLoader);
+            loading.complete(storeValue);
+            return (T) fromStoreValue(storeValue);
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, loading);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        // 앞선 로딩이 저장을 마치고 목록에서 빠진 직후라면 그 값을 사용
+        Object present = store.get(key);
+        if (present != null) {
+            return present;
+        }
+
+        int slot = slot(key);
+        long stamp = stamps.get(slot);
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        Object storeValue = toStoreValue(value);
+        store.compute(key, (k, current) ->
+                current == null && stamps.get(slot) == stamp ? storeValue : current);
+        return storeValue;
+    }
+
+    /**
+     * 다른 요청이 진행 중인 로딩의 결과를 기다림 (실패하면 같은 원인으로 실패)
+     */
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ValueRetrievalException retrieval) {
+                // @Cacheable(sync = true)는 원인(로더가 던진 예외)을 꺼내서 다시 던지므로 원인을 그대로 전달
+                throw new ValueRetrievalException(key, valueLoader, retrieval.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidateKey(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return invalidateKey(key) != null;
+    }
+
+    @Override
+    public void clear() {
+        invalidateAll();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        invalidateAll();
+        return super.invalidate();
+    }
+
+    private Object invalidateKey(Object key) {
+        Object[] removed = new Object[1];
+        store.compute(key, (k, current) -> {
+            stamps.incrementAndGet(slot(k));
+            loads.remove(k);
+            removed[0] = current;
+            return null;
+        });
+        return removed[0];
+    }
+
+    private void invalidateAll() {
+        for (int i = 0; i < STAMP_SLOTS; i++) {
+            stamps.incrementAndGet(i);
+        }
+        loads.clear();
+    }
+
+    private static int slot(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STAMP_SLOTS - 1);
+    }
+}
@@ -1,11 +1,32 @@
 package com.gitfactory.blogapi.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
 @Configuration
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
 public class JpaAuditingConfig {
     // JPA Auditing 설정을 별도 클래스로 분리
     // 이렇게 하면 @WebMvcTest에서 이 Configuration만 제외할 수 있음
-}
\ No newline at end of file
+
+    /**
+     * DB 컬럼 정밀도(마이크로초)에 맞춘 현재 시각
+     *
+     * 저장 직후 엔티티의 값과 DB에서 다시 읽은 값이 같아야
+     * updatedAt 기반 ETag/조건부 요청 비교가 어긋나지 않습니다.
+     */
+    public static LocalDateTime currentTime() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(currentTime());
+    }
+}
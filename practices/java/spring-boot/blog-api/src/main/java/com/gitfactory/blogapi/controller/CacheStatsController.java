@@ -0,0 +1,39 @@
+package com.gitfactory.blogapi.controller;
+
+import com.gitfactory.blogapi.dto.CacheStatsResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 캐시 통계 조회 API 컨트롤러
+ */
+@Tag(name = "캐시 API", description = "캐시 히트/미스/제거 통계 조회")
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+
+    @GetMapping
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        List<CacheStatsResponse> stats = cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(cache -> CacheStatsResponse.of(
+                        cache.getName(),
+                        cache.getNativeCache().estimatedSize(),
+                        cache.getNativeCache().stats()))
+                .toList();
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -1,69 +1,271 @@
 package com.gitfactory.blogapi.controller;
 
+import com.gitfactory.blogapi.dto.BatchCreateResponse;
+import com.gitfactory.blogapi.dto.CursorPageResponse;
+import com.gitfactory.blogapi.dto.PostPatchRequest;
 import com.gitfactory.blogapi.dto.PostRequest;
 import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.dto.VersionedPost;
+import com.gitfactory.blogapi.jsoncache.PostJsonBody;
+import com.gitfactory.blogapi.jsoncache.PostJsonCache;
+import com.gitfactory.blogapi.service.PostBatchService;
+import com.gitfactory.blogapi.service.PostExportService;
 import com.gitfactory.blogapi.service.PostService;
+import com.gitfactory.blogapi.viewcount.ViewCountBuffer;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.List;
 
 /**
  * 게시글 관리 REST API 컨트롤러
+ *
+ * 목록 API는 커서 기반 페이지(기본 20건)로만 조회하고, 기본적으로 본문을 제외한 요약(PostSummaryResponse)을 반환하며,
+ * fields=full 파라미터를 지정하면 본문을 포함한 PostResponse를 반환합니다.
+ * 조회 응답에는 ETag(목록 포함)와 Last-Modified(단건)가 포함되어 조건부 요청(304)을 지원하고,
+ * 수정/삭제는 If-Match 헤더로 조건부 처리할 수 있습니다 (불일치 시 412).
+ * reactive 프로필에서는 ReactivePostController가 같은 경로를 담당합니다.
  */
 @Tag(name = "게시글 API", description = "게시글 CRUD 및 검색 API")
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final String FIELDS_FULL = "full";
+    private static final String FIELDS_SUMMARY = "summary";
+    private static final String DEFAULT_PAGE_SIZE = "20";
+
     private final PostService postService;
+    private final PostBatchService postBatchService;
+    private final PostExportService postExportService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostJsonCache postJsonCache;
 
+    /**
+     * 커서 기반 페이지 조회 (최신순)
+     *
+     * size를 생략하면 기본 크기의 첫 페이지를 반환합니다. 전체 목록은 /export로 내려받습니다.
+     */
     @GetMapping
-    public ResponseEntity<List<PostResponse>> getAllPosts() {
-        List<PostResponse> posts = postService.getAllPosts();
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<CursorPageResponse<?>> getPostPage(
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields
+    ) {
+        CursorPageResponse<? extends VersionedPost> page = isFull(fields)
+                ? postService.getPostPage(cursor, size)
+                : postService.getPostSummaryPage(cursor, size);
+        return ResponseEntity.ok()
+                .eTag(PostETags.ofList(variant(fields), page.content(), page.nextCursor()))
+                .<CursorPageResponse<?>>body(page);
+    }
+
+    /**
+     * 전체 게시글 NDJSON 스트리밍 내보내기
+     *
+     * 응답 본문을 메모리에 모으지 않고 DB에서 읽는 즉시 출력 스트림에 씁니다.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportPosts(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        postExportService.exportAsNdjson(response.getOutputStream());
     }
 
+    /**
+     * 게시글 상세 조회
+     *
+     * If-None-Match / If-Modified-Since가 현재 ETag / Last-Modified와 일치하면
+     * 본문을 만들지 않고(PostJsonCache 조회/직렬화 없이) 304 Not Modified를 반환합니다.
+     * 조회수는 메모리에서 증가시키고 주기적으로 DB에 반영하므로 ETag에는 포함하지 않고, 약한 ETag(W/)를 씁니다.
+     * 본문은 PostJsonCache에 미리 직렬화(gzip 포함)해 둔 바이트에 조회수만 끼워서 씁니다.
+     * gzip을 받을 수 있는 요청에는 표현이 다르므로 별도 ETag(W/"{id}-{version}-gzip")를 쓰고,
+     * If-Match에는 두 ETag 모두 사용할 수 있습니다.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponse> getPostById(@PathVariable Long id) {
+    @ApiResponse(responseCode = "200", content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PostResponse.class)))
+    public ResponseEntity<PostJsonBody> getPostById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest
+    ) {
         PostResponse post = postService.getPostById(id);
-        return ResponseEntity.ok(post);
+        long pendingViews = viewCountBuffer.increment(id);
+        boolean acceptsGzip = acceptsGzip(acceptEncoding);
+        String etag = acceptsGzip ? PostETags.ofGzip(post) : PostETags.of(post);
+        ZonedDateTime lastModified = PostETags.lastModified(post);
+        if (webRequest.checkNotModified(etag, lastModified.toInstant().toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .lastModified(lastModified)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        PostJsonBody body = postJsonCache.body(id, post, post.viewCount() + pendingViews, acceptsGzip);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (body.isGzip()) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @PostMapping
-    public ResponseEntity<PostResponse> createPost(@RequestBody PostRequest request) {
+    public ResponseEntity<PostResponse> createPost(@Valid @RequestBody PostRequest request) {
         PostResponse post = postService.createPost(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(post);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(PostETags.of(post))
+                .lastModified(PostETags.lastModified(post))
+                .body(post);
     }
 
+    /**
+     * 게시글 대량 등록 (항목별 성공/실패 결과 반환)
+     *
+     * 일부 항목이 잘못되어도 나머지는 등록해야 하므로 @Valid 대신 PostBatchService가 항목별로 검증합니다.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResponse> createPosts(@RequestBody List<PostRequest> requests) {
+        BatchCreateResponse response = postBatchService.createPosts(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 게시글 수정 (If-Match가 있으면 현재 ETag와 일치할 때만 수정, 불일치 시 412)
+     */
     @PutMapping("/{id}")
     public ResponseEntity<PostResponse> updatePost(
             @PathVariable Long id,
-            @RequestBody PostRequest request
+            @Valid @RequestBody PostRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        PostResponse post = postService.updatePost(id, request);
-        return ResponseEntity.ok(post);
+        PostResponse post = postService.updatePost(id, request, PostETags.expectedVersion(id, ifMatch));
+        postJsonCache.evict(id);
+        return okWithValidators(post);
+    }
+
+    /**
+     * 게시글 부분 수정 (전달한 필드만 수정, 본문 없이 204 반환)
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchPost(
+            @PathVariable Long id,
+            @Valid @RequestBody PostPatchRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        postService.patchPost(id, request, PostETags.expectedVersion(id, ifMatch));
+        postJsonCache.evict(id);
+        return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 게시글 삭제 (If-Match가 있으면 현재 ETag와 일치할 때만 삭제, 불일치 시 412)
+     */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deletePost(@PathVariable Long id) {
-        postService.deletePost(id);
+    public ResponseEntity<Void> deletePost(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        postService.deletePost(id, PostETags.expectedVersion(id, ifMatch));
+        postJsonCache.evict(id);
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 제목/본문 전문 검색 (관련도순)
+     */
     @GetMapping("/search")
-    public ResponseEntity<List<PostResponse>> searchPosts(@RequestParam String keyword) {
-        List<PostResponse> posts = postService.searchByTitle(keyword);
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<List<?>> searchPosts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String fields
+    ) {
+        if (isFull(fields)) {
+            return okWithETag(postService.search(keyword, page, size), fields);
+        }
+        return okWithETag(postService.searchSummaries(keyword, page, size), fields);
     }
 
+    /**
+     * 작성자의 커서 기반 페이지 조회 (최신순, size를 생략하면 기본 크기의 첫 페이지)
+     */
     @GetMapping("/author/{author}")
-    public ResponseEntity<List<PostResponse>> getPostsByAuthor(@PathVariable String author) {
-        List<PostResponse> posts = postService.getPostsByAuthor(author);
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<CursorPageResponse<?>> getPostPageByAuthor(
+            @PathVariable String author,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields
+    ) {
+        CursorPageResponse<? extends VersionedPost> page = isFull(fields)
+                ? postService.getPostPageByAuthor(author, cursor, size)
+                : postService.getPostSummaryPageByAuthor(author, cursor, size);
+        return ResponseEntity.ok()
+                .eTag(PostETags.ofList(variant(fields), page.content(), page.nextCursor()))
+                .<CursorPageResponse<?>>body(page);
+    }
+
+    private static boolean isFull(String fields) {
+        return FIELDS_FULL.equalsIgnoreCase(fields);
+    }
+
+    /**
+     * Accept-Encoding에 gzip이 있는지 (q=0으로 거부한 경우 제외)
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static String variant(String fields) {
+        return isFull(fields) ? FIELDS_FULL : FIELDS_SUMMARY;
+    }
+
+    /**
+     * 단건 응답에 ETag/Last-Modified 설정
+     * (GET 요청이면 Spring이 조건부 헤더를 비교해서 일치 시 본문 없이 304로 응답)
+     */
+    private static ResponseEntity<PostResponse> okWithValidators(PostResponse post) {
+        return ResponseEntity.ok()
+                .eTag(PostETags.of(post))
+                .lastModified(PostETags.lastModified(post))
+                .body(post);
+    }
+
+    /**
+     * 목록 응답에 ETag 설정 (If-None-Match 일치 시 304)
+     */
+    private static ResponseEntity<List<?>> okWithETag(List<? extends VersionedPost> posts, String fields) {
+        return ResponseEntity.ok()
+                .eTag(PostETags.ofList(variant(fields), posts, null))
+                .<List<?>>body(posts);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.gitfactory.blogapi.controller;
+
+import com.gitfactory.blogapi.dto.VersionedPost;
+import com.gitfactory.blogapi.exception.PreconditionFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 게시글 ETag/Last-Modified 계산
+ *
+ * 응답 본문을 직렬화하지 않고 (id, version)만으로 검증자를 만듭니다.
+ * 응답에 포함된 조회수는 version을 바꾸지 않고 증가하므로 바이트 단위로 같음을 보장할 수 없어 약한(W/) ETag를 씁니다.
+ * - 단건: W/"{id}-{version}" (If-Match 비교를 위해 다시 파싱 가능)
+ *   gzip 표현은 W/"{id}-{version}-gzip" (같은 ETag로 다른 인코딩의 바이트를 보내지 않도록)
+ * - 목록: 항목들의 (id, version)과 페이지 정보를 64비트 FNV-1a로 해시한 약한 ETag
+ *   (삭제는 최신 수정 시각을 바꾸지 않으므로 목록에는 Last-Modified를 쓰지 않음)
+ */
+final class PostETags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String GZIP_SUFFIX = "-gzip";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private PostETags() {
+    }
+
+    static String of(VersionedPost post) {
+        return WEAK_PREFIX + "\"" + post.id() + "-" + post.version() + "\"";
+    }
+
+    static String ofGzip(VersionedPost post) {
+        return WEAK_PREFIX + "\"" + post.id() + "-" + post.version() + GZIP_SUFFIX + "\"";
+    }
+
+    static ZonedDateTime lastModified(VersionedPost post) {
+        return post.updatedAt().atZone(ZoneId.systemDefault());
+    }
+
+    /**
+     * 목록/페이지 ETag
+     *
+     * @param variant 응답 형태 구분값 (요약/전체 등, 같은 행이라도 표현이 다르면 ETag도 달라야 함)
+     * @param posts 응답 항목
+     * @param extra 항목 외에 응답에 포함되는 값 (nextCursor 등, null 허용)
+     */
+    static String ofList(String variant, List<? extends VersionedPost> posts, String extra) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, variant);
+        for (VersionedPost post : posts) {
+            hash = mix(hash, post.id());
+            hash = mix(hash, post.version());
+        }
+        hash = mix(hash, extra);
+        return WEAK_PREFIX + "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * If-Match 헤더를 기대하는 version으로 변환
+     *
+     * 약한 ETag(W/)와 gzip 표현의 ETag도 같은 version으로 해석합니다.
+     * (RFC 9110의 If-Match는 강한 비교지만, 이 ETag는 version만 나타내므로 버전 비교로 충분함)
+     *
+     * @return 헤더가 없거나 "*"이면 null (존재 여부만 확인)
+     * @throws PreconditionFailedException 다른 게시글의 ETag이거나 형식이 올바르지 않은 경우
+     */
+    static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        String etag = ifMatch.trim();
+        if (etag.startsWith(WEAK_PREFIX)) {
+            etag = etag.substring(WEAK_PREFIX.length());
+        }
+        if (etag.endsWith(GZIP_SUFFIX + "\"")) {
+            etag = etag.substring(0, etag.length() - GZIP_SUFFIX.length() - 1) + "\"";
+        }
+        if (!etag.startsWith(prefix) || !etag.endsWith("\"") || etag.length() <= prefix.length() + 1) {
+            throw new PreconditionFailedException(id);
+        }
+        try {
+            return Long.parseLong(etag.substring(prefix.length(), etag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException(id);
+        }
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, 0L);
+        }
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash, value.length());
+    }
+}
@@ -0,0 +1,86 @@
+package com.gitfactory.blogapi.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * primary/replica 읽기-쓰기 분리 설정 (blog.datasource.replica.url이 있을 때만)
+ *
+ * - primary: spring.datasource.* / spring.datasource.hikari.* (풀 이름 primary)
+ * - replica: blog.datasource.replica.* / blog.datasource.replica.hikari.* (풀 이름 replica)
+ * - 두 풀 모두 빈으로 등록되므로 hikaricp.* 메트릭이 pool 태그별로 수집됩니다.
+ * - JPA, Flyway, JdbcTemplate은 @Primary인 라우팅 DataSource를 사용하며,
+ *   읽기 전용 트랜잭션(@Transactional(readOnly = true))만 replica로 갑니다.
+ *
+ * replica는 비동기 복제이므로 쓰기 직후의 읽기 전용 조회에는 반영되지 않았을 수 있습니다.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "blog.datasource.replica.url")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("blog.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${blog.datasource.replica.url}") String url,
+            @Value("${blog.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${blog.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${blog.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${blog.datasource.replica.max-lag:5s}") Duration maxLag,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry);
+        routing.afterPropertiesSet();
+        // 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 가져와야 readOnly 여부로 라우팅할 수 있음
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
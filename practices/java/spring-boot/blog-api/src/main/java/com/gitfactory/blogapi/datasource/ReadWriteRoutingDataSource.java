@@ -0,0 +1,68 @@
+package com.gitfactory.blogapi.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 그 외는 primary로 보내는 DataSource
+ *
+ * 트랜잭션 속성(readOnly)이 정해진 뒤에 커넥션을 고르도록 반드시 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ * replica가 응답하지 않거나 복제 지연이 허용치를 넘으면(ReplicaLagMonitor) 읽기도 primary로 보냅니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private static final String METRIC_NAME = "blog.datasource.routing";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.primaryCounter = counter(meterRegistry, Route.PRIMARY, "read-write");
+        this.replicaCounter = counter(meterRegistry, Route.REPLICA, "read-only");
+        this.fallbackCounter = counter(meterRegistry, Route.PRIMARY, "replica-unavailable");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    /**
+     * 현재 스레드의 트랜잭션에서 사용할 커넥션 대상
+     */
+    Route currentRoute() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryCounter.increment();
+            return Route.PRIMARY;
+        }
+        if (!replicaLagMonitor.isReplicaAvailable()) {
+            fallbackCounter.increment();
+            return Route.PRIMARY;
+        }
+        replicaCounter.increment();
+        return Route.REPLICA;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, Route route, String reason) {
+        return Counter.builder(METRIC_NAME)
+                .description("Connections routed to each datasource pool")
+                .tag("target", route.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
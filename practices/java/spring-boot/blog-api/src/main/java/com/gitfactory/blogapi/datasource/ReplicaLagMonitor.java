@@ -0,0 +1,84 @@
+package com.gitfactory.blogapi.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * replica 상태(접속 가능 여부, 복제 지연) 주기 점검
+ *
+ * lag-query가 없으면 접속 여부만 확인하고, 있으면 그 결과(초)를 복제 지연으로 보고 max-lag와 비교합니다.
+ * 첫 점검에 성공하기 전까지는 읽기도 primary로 보냅니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String PING_SQL = "SELECT 1";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean replicaAvailable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout(1);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        Gauge.builder("blog.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica (NaN if unreachable)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("blog.datasource.replica.available", this, monitor -> monitor.replicaAvailable ? 1 : 0)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.datasource.replica.check-interval-ms:5000}")
+    public void check() {
+        try {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                replicaJdbcTemplate.queryForObject(PING_SQL, Integer.class);
+                update(0);
+            } else {
+                Double lag = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+                update(lag == null ? 0 : lag);
+            }
+        } catch (DataAccessException e) {
+            markUnavailable(e);
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * 측정한 복제 지연 반영 (허용치를 넘으면 읽기를 primary로 전환)
+     */
+    void update(double lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        boolean available = lagSeconds <= maxLag.toMillis() / 1000.0;
+        if (available != replicaAvailable) {
+            log.info("Replica {} (lag {}s, max {}s)", available ? "enabled for reads" : "disabled, reading from primary",
+                    lagSeconds, maxLag.toSeconds());
+        }
+        this.replicaAvailable = available;
+    }
+
+    private void markUnavailable(DataAccessException e) {
+        if (replicaAvailable) {
+            log.warn("Replica unreachable, reading from primary", e);
+        }
+        this.lagSeconds = Double.NaN;
+        this.replicaAvailable = false;
+    }
+}
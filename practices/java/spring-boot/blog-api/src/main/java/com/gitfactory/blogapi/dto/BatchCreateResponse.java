@@ -0,0 +1,36 @@
+package com.gitfactory.blogapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 대량 등록 응답 DTO
+ */
+@Schema(description = "대량 등록 응답")
+public record BatchCreateResponse(
+        @Schema(description = "요청 건수", example = "1000")
+        int total,
+
+        @Schema(description = "성공 건수", example = "998")
+        int succeeded,
+
+        @Schema(description = "실패 건수", example = "2")
+        int failed,
+
+        @Schema(description = "항목별 결과 (요청 순서와 동일)")
+        List<BatchItemResult> results
+) {
+    /**
+     * 항목별 결과로 응답 생성
+     *
+     * @param results 요청 순서대로 정렬된 항목별 결과
+     * @return BatchCreateResponse DTO
+     */
+    public static BatchCreateResponse of(List<BatchItemResult> results) {
+        int succeeded = (int) results.stream()
+                .filter(result -> result.status() == BatchItemResult.Status.CREATED)
+                .count();
+        return new BatchCreateResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
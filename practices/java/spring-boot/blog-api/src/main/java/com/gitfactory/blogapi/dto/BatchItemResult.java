@@ -0,0 +1,34 @@
+package com.gitfactory.blogapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 대량 등록 항목별 처리 결과 DTO
+ */
+@Schema(description = "대량 등록 항목별 결과")
+public record BatchItemResult(
+        @Schema(description = "요청 배열 내 위치 (0부터 시작)", example = "0")
+        int index,
+
+        @Schema(description = "처리 결과", example = "CREATED")
+        Status status,
+
+        @Schema(description = "생성된 게시글 ID (실패 시 null)", example = "1")
+        Long id,
+
+        @Schema(description = "실패 사유 (성공 시 null)", example = "title is required")
+        String error
+) {
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    public static BatchItemResult created(int index, Long id) {
+        return new BatchItemResult(index, Status.CREATED, id, null);
+    }
+
+    public static BatchItemResult failed(int index, String error) {
+        return new BatchItemResult(index, Status.FAILED, null, error);
+    }
+}
@@ -0,0 +1,47 @@
+package com.gitfactory.blogapi.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 캐시 통계 응답 DTO
+ */
+@Schema(description = "캐시 통계")
+public record CacheStatsResponse(
+        @Schema(description = "캐시 이름", example = "posts")
+        String name,
+
+        @Schema(description = "현재 저장된 항목 수 (추정치)", example = "120")
+        long estimatedSize,
+
+        @Schema(description = "히트 횟수", example = "9500")
+        long hitCount,
+
+        @Schema(description = "미스 횟수", example = "500")
+        long missCount,
+
+        @Schema(description = "히트율", example = "0.95")
+        double hitRate,
+
+        @Schema(description = "크기/TTL 초과로 제거된 항목 수", example = "30")
+        long evictionCount
+) {
+    /**
+     * Caffeine 통계를 CacheStatsResponse DTO로 변환
+     *
+     * @param name 캐시 이름
+     * @param estimatedSize 현재 저장된 항목 수
+     * @param stats Caffeine 통계
+     * @return CacheStatsResponse DTO
+     */
+    public static CacheStatsResponse of(String name, long estimatedSize, CacheStats stats) {
+        return new CacheStatsResponse(
+                name,
+                estimatedSize,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+}
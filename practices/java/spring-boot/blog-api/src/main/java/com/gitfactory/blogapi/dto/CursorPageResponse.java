@@ -0,0 +1,23 @@
+package com.gitfactory.blogapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 DTO
+ *
+ * @param <T> 페이지 항목 타입
+ */
+@Schema(description = "커서 기반 페이지 응답")
+public record CursorPageResponse<T>(
+        @Schema(description = "페이지 항목")
+        List<T> content,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0xMi0wNlQxMDowMHw0Mg")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+}
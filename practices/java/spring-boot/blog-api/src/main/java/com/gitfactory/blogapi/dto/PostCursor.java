@@ -0,0 +1,49 @@
+package com.gitfactory.blogapi.dto;
+
+import com.gitfactory.blogapi.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션의 위치 정보 (createdAt, id)
+ *
+ * 클라이언트에는 Base64 URL-safe 문자열(불투명 토큰)로만 노출됩니다.
+ */
+public record PostCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서를 불투명 토큰으로 인코딩
+     *
+     * @return Base64 URL-safe 토큰
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 토큰을 커서로 디코딩
+     *
+     * @param token 클라이언트가 전달한 커서 토큰
+     * @return 디코딩된 커서
+     * @throws InvalidCursorException 토큰 형식이 올바르지 않은 경우
+     */
+    public static PostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.gitfactory.blogapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 게시글 부분 수정 요청 DTO
+ *
+ * 전달한(null이 아닌) 필드만 수정하고 나머지는 기존 값을 유지합니다.
+ * 전달한 필드에는 PostRequest와 같은 제약(공백만 있는 값 불가, 길이 제한)을 적용합니다.
+ */
+@Schema(description = "게시글 부분 수정 요청 (전달한 필드만 수정)")
+public record PostPatchRequest(
+        @Schema(description = "게시글 제목", example = "Spring Boot 학습하기")
+        @Pattern(regexp = PostPatchRequest.NOT_BLANK, flags = Pattern.Flag.DOTALL, message = "must not be blank")
+        @Size(max = PostRequest.TITLE_MAX_LENGTH)
+        String title,
+
+        @Schema(description = "게시글 내용", example = "Spring Boot는 Java 기반의 웹 프레임워크입니다.")
+        @Pattern(regexp = PostPatchRequest.NOT_BLANK, flags = Pattern.Flag.DOTALL, message = "must not be blank")
+        String content,
+
+        @Schema(description = "작성자", example = "홍길동")
+        @Pattern(regexp = PostPatchRequest.NOT_BLANK, flags = Pattern.Flag.DOTALL, message = "must not be blank")
+        @Size(max = PostRequest.AUTHOR_MAX_LENGTH)
+        String author
+) {
+    /** 공백이 아닌 문자를 하나 이상 포함 (null은 검사하지 않으므로 "전달한 경우에만 @NotBlank") */
+    static final String NOT_BLANK = ".*\\S.*";
+
+    /**
+     * 수정할 필드가 하나도 없는지 확인
+     */
+    public boolean isEmpty() {
+        return title == null && content == null && author == null;
+    }
+}
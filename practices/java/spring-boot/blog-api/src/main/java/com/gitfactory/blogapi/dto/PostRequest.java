@@ -2,21 +2,36 @@ package com.gitfactory.blogapi.dto;
 
 import com.gitfactory.blogapi.entity.Post;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 /**
  * 게시글 생성/수정 요청 DTO
+ *
+ * 길이 제한은 posts 테이블 컬럼 크기와 같습니다 (초과 시 DB 오류 대신 400).
  */
 @Schema(description = "게시글 생성/수정 요청")
 public record PostRequest(
         @Schema(description = "게시글 제목", example = "Spring Boot 학습하기", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank
+        @Size(max = PostRequest.TITLE_MAX_LENGTH)
         String title,
 
         @Schema(description = "게시글 내용", example = "Spring Boot는 Java 기반의 웹 프레임워크입니다.", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank
         String content,
 
         @Schema(description = "작성자", example = "홍길동", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank
+        @Size(max = PostRequest.AUTHOR_MAX_LENGTH)
         String author
 ) {
+    /** 제목 최대 길이 (posts.title 컬럼 크기) */
+    public static final int TITLE_MAX_LENGTH = 200;
+
+    /** 작성자 최대 길이 (posts.author 컬럼 크기) */
+    public static final int AUTHOR_MAX_LENGTH = 50;
+
     /**
      * PostRequest DTO를 Post Entity로 변환
      *
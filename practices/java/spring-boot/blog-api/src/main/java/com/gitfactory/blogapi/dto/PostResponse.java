@@ -1,5 +1,6 @@
 package com.gitfactory.blogapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.gitfactory.blogapi.entity.Post;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
@@ -25,8 +26,16 @@ public record PostResponse(
         LocalDateTime createdAt,
 
         @Schema(description = "수정일시", example = "2025-12-06T15:30:00")
-        LocalDateTime updatedAt
-) {
+        LocalDateTime updatedAt,
+
+        @Schema(description = "조회수 (DB 반영 전 증가분 포함, 근사값)", example = "42")
+        long viewCount,
+
+        // 본문에는 노출하지 않고 ETag 헤더로 전달
+        @JsonIgnore
+        @Schema(hidden = true)
+        Long version
+) implements VersionedPost {
     /**
      * Post Entity를 PostResponse DTO로 변환
      *
@@ -40,7 +49,19 @@ public record PostResponse(
                 post.getContent(),
                 post.getAuthor(),
                 post.getCreatedAt(),
-                post.getUpdatedAt()
+                post.getUpdatedAt(),
+                post.getViewCount(),
+                post.getVersion()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 조회수만 바꾼 사본 (캐시된 응답에 DB 반영 전 증가분을 더할 때 사용)
+     *
+     * @param viewCount 조회수
+     * @return 조회수가 바뀐 PostResponse
+     */
+    public PostResponse withViewCount(long viewCount) {
+        return new PostResponse(id, title, content, author, createdAt, updatedAt, viewCount, version);
+    }
+}
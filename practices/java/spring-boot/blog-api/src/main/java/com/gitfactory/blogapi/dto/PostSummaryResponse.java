@@ -0,0 +1,49 @@
+package com.gitfactory.blogapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.gitfactory.blogapi.repository.PostSummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 응답 DTO (본문 제외)
+ */
+@Schema(description = "게시글 요약 응답 (본문 제외)")
+public record PostSummaryResponse(
+        @Schema(description = "게시글 ID", example = "1")
+        Long id,
+
+        @Schema(description = "게시글 제목", example = "Spring Boot 학습하기")
+        String title,
+
+        @Schema(description = "작성자", example = "홍길동")
+        String author,
+
+        @Schema(description = "생성일시", example = "2025-12-06T10:00:00")
+        LocalDateTime createdAt,
+
+        @Schema(description = "수정일시", example = "2025-12-06T15:30:00")
+        LocalDateTime updatedAt,
+
+        // 본문에는 노출하지 않고 ETag 계산에만 사용
+        @JsonIgnore
+        @Schema(hidden = true)
+        Long version
+) implements VersionedPost {
+    /**
+     * PostSummary Projection을 PostSummaryResponse DTO로 변환
+     *
+     * @param summary PostSummary Projection
+     * @return PostSummaryResponse DTO
+     */
+    public static PostSummaryResponse from(PostSummary summary) {
+        return new PostSummaryResponse(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getAuthor(),
+                summary.getCreatedAt(),
+                summary.getUpdatedAt(),
+                summary.getVersion()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.gitfactory.blogapi.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * ETag/Last-Modified 계산에 필요한 게시글 식별 정보 (ETag: id + version, Last-Modified: updatedAt)
+ *
+ * 응답 본문을 직렬화하지 않고도 검증자(validator)를 만들 수 있도록
+ * PostResponse와 PostSummaryResponse가 구현합니다.
+ */
+public interface VersionedPost {
+
+    Long id();
+
+    LocalDateTime updatedAt();
+
+    Long version();
+}
@@ -1,10 +1,14 @@
 package com.gitfactory.blogapi.entity;
 
+import com.gitfactory.blogapi.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,16 +17,32 @@ import java.time.LocalDateTime;
 
 /**
  * 게시글 엔티티
+ *
+ * 스키마는 Flyway 마이그레이션(db/migration)으로 관리하며, 인덱스 선언은 마이그레이션과 같게 유지합니다.
+ * Hibernate 2차 캐시(post 영역)에 저장되며, 엔티티 수정은 커밋 시 해당 항목만 캐시에 반영되고
+ * 벌크 UPDATE/DELETE(@Modifying 쿼리)는 영역 전체를 무효화합니다.
+ * 수정은 바뀐 컬럼만 UPDATE 합니다 (@DynamicUpdate, 부분 수정 시 본문 같은 큰 컬럼을 다시 쓰지 않도록).
  */
 @Entity
-@Table(name = "posts")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.POST_REGION)
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_posts_author_created_at", columnList = "author, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Post {
 
+    /**
+     * 시퀀스 + pooled optimizer: 시퀀스 1회 호출로 ID 50개를 확보하며,
+     * IDENTITY와 달리 INSERT를 JDBC 배치로 묶을 수 있습니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -42,6 +62,21 @@ public class Post {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 조회수: ViewCountFlusher가 "view_count = view_count + ?"로만 증가시킵니다.
+     * 엔티티 수정 시 읽어온 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외합니다.
+     */
+    @Column(nullable = false, updatable = false)
+    private long viewCount;
+
+    /**
+     * 낙관적 락 버전: 수정 시 "WHERE version = ?" 조건으로 동시 수정(lost update)을 감지합니다.
+     * 응답의 ETag로도 사용됩니다.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
     public Post(String title, String content, String author) {
         this.title = title;
@@ -61,4 +96,23 @@ public class Post {
         this.content = content;
         this.author = author;
     }
+
+    /**
+     * 게시글 부분 수정 (null인 필드는 기존 값 유지)
+     *
+     * @param title 수정할 제목 (null이면 유지)
+     * @param content 수정할 내용 (null이면 유지)
+     * @param author 수정할 작성자 (null이면 유지)
+     */
+    public void patch(String title, String content, String author) {
+        if (title != null) {
+            this.title = title;
+        }
+        if (content != null) {
+            this.content = content;
+        }
+        if (author != null) {
+            this.author = author;
+        }
+    }
 }
\ No newline at end of file
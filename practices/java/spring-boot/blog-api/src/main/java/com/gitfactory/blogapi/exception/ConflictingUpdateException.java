@@ -0,0 +1,15 @@
+package com.gitfactory.blogapi.exception;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * 조건 없는 수정(PUT)이 다른 요청과 같은 필드를 동시에 수정해서 재시도 없이 실패할 때 발생 (409)
+ *
+ * 다시 적용하면 다른 요청의 수정을 덮어쓰게 되므로, 클라이언트가 최신 상태를 다시 조회하도록 합니다.
+ */
+public class ConflictingUpdateException extends OptimisticLockingFailureException {
+
+    public ConflictingUpdateException(Long id) {
+        super("Post was modified concurrently on the same fields, id: " + id);
+    }
+}
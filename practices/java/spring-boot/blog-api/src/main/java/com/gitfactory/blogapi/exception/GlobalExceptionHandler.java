@@ -1,22 +1,83 @@
 package com.gitfactory.blogapi.exception;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+/**
+ * 예외를 RFC 7807 ProblemDetail(application/problem+json) 응답으로 변환
+ *
+ * 상태 코드는 메시지가 아닌 예외 타입으로 결정합니다.
+ * Spring MVC가 던지는 요청 오류(본문 파싱 실패, 파라미터 누락/타입 불일치, 지원하지 않는 메서드 등)는
+ * ResponseEntityExceptionHandler가 각각의 4xx ProblemDetail로 변환합니다.
+ * 그 외 400은 클라이언트 입력 오류로 명시한 예외(InvalidRequestException, 요청 본문 검증 실패)만 해당하며,
+ * 나머지 예외의 메시지는 내부 정보일 수 있으므로 응답에 노출하지 않습니다.
+ */
+@Slf4j
 @RestControllerAdvice
-public class GlobalExceptionHandler {
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ProblemDetail handleResourceNotFoundException(ResourceNotFoundException ex) {
+        // 가장 자주 발생하는 오류 응답이므로 타입 매칭만으로 바로 404 (스택 트레이스/문자열 검사 없음)
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+        problem.setTitle(ex.getTitle());
+        return problem;
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ProblemDetail handleInvalidRequestException(InvalidRequestException ex) {
+        // 잘못된 커서 등 클라이언트 입력 오류는 400
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex,
+                                                                  HttpHeaders headers, HttpStatusCode status,
+                                                                  WebRequest request) {
+        // @Valid 요청 본문 검증 실패 (필드별 오류는 errors 속성) → 400
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Invalid request content");
+        problem.setProperty("errors", ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .toList());
+        return handleExceptionInternal(ex, problem, headers, HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ProblemDetail handlePreconditionFailedException(PreconditionFailedException ex) {
+        // If-Match ETag 불일치 (다른 요청이 먼저 수정함) → 412
+        return ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        // 같은 필드를 동시에 수정했거나 충돌이 재시도 후에도 해소되지 않음 → 최신 상태를 다시 조회하도록 409
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT,
+                "Post was modified concurrently, please reload and retry");
+    }
+
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ProblemDetail> handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        // 커넥션 풀 대기 시간 초과 (DB 과부하 보호) → 잠시 후 재시도하도록 503
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, "Database is busy, please retry"));
+    }
 
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
-        // "Post not found" 메시지가 포함되어 있으면 404 반환
-        if (ex.getMessage() != null && ex.getMessage().contains("not found")) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ex.getMessage());
-        }
-        // 그 외는 500
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ex.getMessage());
+    public ProblemDetail handleRuntimeException(RuntimeException ex) {
+        // 그 외는 500 (Spring/Hibernate/내부 IllegalArgumentException 포함, 메시지는 로그에만 남김)
+        log.error("Unhandled exception", ex);
+        return ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.gitfactory.blogapi.exception;
+
+/**
+ * 커서 토큰을 디코딩할 수 없을 때 발생 (400)
+ */
+public class InvalidCursorException extends InvalidRequestException {
+
+    public InvalidCursorException(String token) {
+        super("Invalid cursor: " + token);
+    }
+}
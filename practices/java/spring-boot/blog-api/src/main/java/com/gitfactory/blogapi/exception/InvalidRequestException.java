@@ -0,0 +1,14 @@
+package com.gitfactory.blogapi.exception;
+
+/**
+ * 클라이언트 입력값이 올바르지 않을 때 발생 (400)
+ *
+ * 메시지가 그대로 응답에 노출되므로 클라이언트가 보낸 값만 담습니다.
+ * 내부 오류(IllegalArgumentException 등)는 400으로 바꾸지 않고 500으로 처리합니다.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.gitfactory.blogapi.exception;
+
+/**
+ * 게시글이 없을 때 발생 (404)
+ */
+public class PostNotFoundException extends ResourceNotFoundException {
+
+    private static final String TITLE = "Post not found";
+
+    private final long id;
+
+    public PostNotFoundException(long id) {
+        this.id = id;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public String getTitle() {
+        return TITLE;
+    }
+
+    @Override
+    public String getMessage() {
+        // 로그나 응답에 실제로 쓰일 때만 문자열 생성
+        return "Post not found with id: " + id;
+    }
+}
@@ -0,0 +1,11 @@
+package com.gitfactory.blogapi.exception;
+
+/**
+ * 조건부 요청(If-Match)의 ETag가 현재 게시글 상태와 일치하지 않을 때 발생 (412)
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(Long id) {
+        super("Post has been modified since the given ETag, id: " + id);
+    }
+}
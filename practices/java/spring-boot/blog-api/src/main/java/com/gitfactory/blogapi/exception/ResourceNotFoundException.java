@@ -0,0 +1,19 @@
+package com.gitfactory.blogapi.exception;
+
+/**
+ * 요청한 리소스가 없을 때 발생하는 예외의 상위 타입 (404)
+ *
+ * 없는 ID 조회는 정상적인 흐름(봇의 무작위 ID 요청 등)이라 자주 발생하므로,
+ * 스택 트레이스를 채우지 않고(writableStackTrace=false) 메시지도 필요할 때만 만듭니다.
+ */
+public abstract class ResourceNotFoundException extends RuntimeException {
+
+    protected ResourceNotFoundException() {
+        super(null, null, false, false);
+    }
+
+    /**
+     * ProblemDetail의 title로 쓰는 리소스 설명 (예: "Post not found")
+     */
+    public abstract String getTitle();
+}
@@ -0,0 +1,152 @@
+package com.gitfactory.blogapi.jsoncache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gitfactory.blogapi.dto.PostResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+/**
+ * 직렬화가 끝난 게시글 JSON (UTF-8 바이트)
+ *
+ * 조회수는 요청마다 달라지므로 viewCount 값 앞뒤(prefix/suffix)로 나눠 저장하고, 쓸 때 숫자만 끼워 넣습니다.
+ * gzip 형식도 같은 방식으로 나눠 압축해 둡니다 (PostJsonBody 참고).
+ */
+final class EncodedPost {
+
+    private static final byte[] VIEW_COUNT_KEY = "\"viewCount\":".getBytes(StandardCharsets.US_ASCII);
+
+    /** gzip 헤더 (CM=deflate, 플래그/시각 없음, OS=unknown) */
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    /** 원본 응답 (viewCount 제외 필드로 유효성 비교) */
+    final PostResponse source;
+    final byte[] prefix;
+    final byte[] suffix;
+    /** gzip 헤더 + prefix를 SYNC_FLUSH로 압축한 raw deflate (gzip을 쓰지 않으면 null) */
+    final byte[] gzipPrefix;
+    /** suffix를 FINISH로 압축한 raw deflate (마지막 블록) */
+    final byte[] gzipSuffix;
+
+    private EncodedPost(PostResponse source, byte[] prefix, byte[] suffix, byte[] gzipPrefix, byte[] gzipSuffix) {
+        this.source = source;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.gzipPrefix = gzipPrefix;
+        this.gzipSuffix = gzipSuffix;
+    }
+
+    /**
+     * 게시글을 직렬화해서 viewCount 앞뒤로 나눔
+     *
+     * 문자열 값 안의 큰따옴표는 이스케이프되므로 "viewCount": 는 속성 이름으로만 나타납니다.
+     */
+    static EncodedPost encode(ObjectMapper objectMapper, PostResponse post) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(post.withViewCount(0));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize post " + post.id(), e);
+        }
+        int key = lastIndexOf(json, VIEW_COUNT_KEY);
+        int value = key + VIEW_COUNT_KEY.length;
+        if (key < 0 || value >= json.length || json[value] != '0') {
+            throw new IllegalStateException("viewCount not found in serialized post " + post.id());
+        }
+        return new EncodedPost(post,
+                Arrays.copyOfRange(json, 0, value),
+                Arrays.copyOfRange(json, value + 1, json.length),
+                null, null);
+    }
+
+    /**
+     * gzip 형식을 추가한 사본
+     */
+    EncodedPost withGzip(int level) {
+        if (hasGzip()) {
+            return this;
+        }
+        ByteArrayOutputStream head = new ByteArrayOutputStream(prefix.length / 2 + GZIP_HEADER.length);
+        head.writeBytes(GZIP_HEADER);
+        deflate(prefix, level, false, head);
+        ByteArrayOutputStream tail = new ByteArrayOutputStream(suffix.length / 2 + 16);
+        deflate(suffix, level, true, tail);
+        return new EncodedPost(source, prefix, suffix, head.toByteArray(), tail.toByteArray());
+    }
+
+    /**
+     * 같은 게시글 상태를 직렬화한 것인지 확인 (viewCount는 요청마다 끼워 넣으므로 제외)
+     */
+    boolean matches(PostResponse post) {
+        if (source == post) {
+            return true;
+        }
+        return Objects.equals(source.version(), post.version())
+                && Objects.equals(source.updatedAt(), post.updatedAt())
+                && Objects.equals(source.id(), post.id())
+                && Objects.equals(source.createdAt(), post.createdAt())
+                && Objects.equals(source.title(), post.title())
+                && Objects.equals(source.author(), post.author())
+                && Objects.equals(source.content(), post.content());
+    }
+
+    boolean hasGzip() {
+        return gzipPrefix != null;
+    }
+
+    /**
+     * 캐시 용량 계산용 바이트 수 (원본 객체는 posts 캐시와 공유하므로 제외)
+     */
+    int weight() {
+        int weight = prefix.length + suffix.length;
+        if (hasGzip()) {
+            weight += gzipPrefix.length + gzipSuffix.length;
+        }
+        return weight;
+    }
+
+    /**
+     * raw deflate 압축
+     *
+     * @param last true면 마지막 블록(BFINAL)으로 끝내고, false면 SYNC_FLUSH로 바이트 경계에서 끝내서
+     *             뒤에 다른 블록을 이어 붙일 수 있게 함
+     */
+    private static void deflate(byte[] input, int level, boolean last, ByteArrayOutputStream out) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(input);
+            byte[] buffer = new byte[Math.max(64, Math.min(input.length, 8192))];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                int written;
+                do {
+                    written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    out.write(buffer, 0, written);
+                } while (written == buffer.length);
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static int lastIndexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = source.length - target.length; i >= 0; i--) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,23 @@
+package com.gitfactory.blogapi.jsoncache;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * PostJsonBody 컨버터 등록
+ *
+ * Jackson 컨버터보다 먼저 선택되도록 맨 앞에 추가합니다 (PostJsonBody 외의 타입에는 관여하지 않음).
+ */
+@Configuration
+@Profile("!reactive")
+public class JsonCacheWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new PostJsonBodyHttpMessageConverter());
+    }
+}
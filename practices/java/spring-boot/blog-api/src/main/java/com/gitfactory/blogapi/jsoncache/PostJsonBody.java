@@ -0,0 +1,96 @@
+package com.gitfactory.blogapi.jsoncache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+
+/**
+ * 미리 직렬화된 게시글 JSON 응답 본문
+ *
+ * PostJsonBodyConverter가 Jackson을 거치지 않고 캐시된 바이트를 출력 스트림에 그대로 씁니다.
+ * 요청마다 만드는 것은 조회수 숫자뿐입니다.
+ *
+ * gzip은 하나의 deflate 스트림을 이어 붙여 만듭니다:
+ * [gzip 헤더 + prefix 압축(SYNC_FLUSH)] + [조회수 stored 블록] + [suffix 압축(마지막 블록)] + [CRC32, 길이]
+ * 압축은 캐시할 때 한 번만 하고, 요청마다 CRC32만 계산합니다.
+ */
+public final class PostJsonBody {
+
+    /** stored 블록 헤더 (BFINAL=0, BTYPE=00) + LEN(2) + NLEN(2) */
+    private static final int STORED_BLOCK_HEADER_LENGTH = 5;
+    private static final int GZIP_TRAILER_LENGTH = 8;
+
+    private final EncodedPost encoded;
+    private final byte[] viewCount;
+    private final boolean gzip;
+
+    PostJsonBody(EncodedPost encoded, long viewCount, boolean gzip) {
+        this.encoded = encoded;
+        this.viewCount = digits(viewCount);
+        this.gzip = gzip;
+    }
+
+    /**
+     * Content-Encoding: gzip 으로 보내는지 여부
+     */
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public long contentLength() {
+        if (!gzip) {
+            return encoded.prefix.length + viewCount.length + encoded.suffix.length;
+        }
+        return encoded.gzipPrefix.length + STORED_BLOCK_HEADER_LENGTH + viewCount.length
+                + encoded.gzipSuffix.length + GZIP_TRAILER_LENGTH;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        if (!gzip) {
+            out.write(encoded.prefix);
+            out.write(viewCount);
+            out.write(encoded.suffix);
+            return;
+        }
+
+        out.write(encoded.gzipPrefix);
+        int length = viewCount.length;
+        out.write(new byte[]{0, (byte) length, (byte) (length >>> 8), (byte) ~length, (byte) (~length >>> 8)});
+        out.write(viewCount);
+        out.write(encoded.gzipSuffix);
+
+        CRC32 crc = new CRC32();
+        crc.update(encoded.prefix);
+        crc.update(viewCount);
+        crc.update(encoded.suffix);
+        int size = encoded.prefix.length + viewCount.length + encoded.suffix.length;
+        writeIntLE(out, (int) crc.getValue());
+        writeIntLE(out, size);
+    }
+
+    private static void writeIntLE(OutputStream out, int value) throws IOException {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    /**
+     * 조회수를 ASCII 숫자 바이트로 변환 (String을 거치지 않음)
+     */
+    private static byte[] digits(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("viewCount must not be negative: " + value);
+        }
+        int length = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            length++;
+        }
+        byte[] digits = new byte[length];
+        for (int i = length - 1; i >= 0; i--) {
+            digits[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,46 @@
+package com.gitfactory.blogapi.jsoncache;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * PostJsonBody를 application/json으로 쓰는 컨버터 (쓰기 전용)
+ *
+ * 캐시된 바이트를 응답 출력 스트림에 그대로 쓰고, 길이를 미리 알 수 있으므로 Content-Length를 설정합니다.
+ */
+class PostJsonBodyHttpMessageConverter extends AbstractHttpMessageConverter<PostJsonBody> {
+
+    PostJsonBodyHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PostJsonBody.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PostJsonBody readInternal(Class<? extends PostJsonBody> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("PostJsonBody is write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(PostJsonBody body, MediaType contentType) {
+        return body.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(PostJsonBody body, HttpOutputMessage outputMessage) throws IOException {
+        body.writeTo(outputMessage.getBody());
+    }
+}
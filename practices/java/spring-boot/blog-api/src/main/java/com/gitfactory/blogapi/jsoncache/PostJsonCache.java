@@ -0,0 +1,94 @@
+package com.gitfactory.blogapi.jsoncache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.zip.Deflater;
+
+/**
+ * 게시글 상세 응답의 직렬화 결과(JSON 바이트, gzip) 캐시
+ *
+ * 인기 게시글은 같은 내용을 요청마다 Jackson으로 직렬화하고 압축하므로,
+ * 직렬화/압축한 바이트를 게시글 ID별로 보관하고 응답에는 조회수만 끼워 넣습니다.
+ *
+ * 캐시 항목은 version/updatedAt 등 원본 필드가 같을 때만 사용하므로(다르면 다시 직렬화)
+ * 다른 인스턴스에서 수정되어 posts 캐시가 갱신된 경우에도 오래된 본문을 보내지 않습니다.
+ * 수정/삭제 시 evict()는 메모리를 바로 돌려주기 위한 것입니다.
+ * 크기 제한은 항목 수가 아닌 바이트 합계(blog.json-cache.max-size)입니다.
+ */
+@Component
+@Profile("!reactive")
+public class PostJsonCache {
+
+    static final String CACHE_NAME = "post-json";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, EncodedPost> cache;
+    private final boolean gzipEnabled;
+    private final long gzipMinSize;
+    private final int gzipLevel;
+
+    public PostJsonCache(
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${blog.json-cache.max-size:64MB}") DataSize maxSize,
+            @Value("${blog.json-cache.ttl:10m}") Duration ttl,
+            @Value("${blog.json-cache.gzip.enabled:true}") boolean gzipEnabled,
+            @Value("${blog.json-cache.gzip.min-size:1KB}") DataSize gzipMinSize,
+            @Value("${blog.json-cache.gzip.level:" + Deflater.DEFAULT_COMPRESSION + "}") int gzipLevel) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long id, EncodedPost encoded) -> encoded.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinSize = gzipMinSize.toBytes();
+        this.gzipLevel = gzipLevel;
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    /**
+     * 응답 본문 (캐시에 없거나 게시글이 바뀌었으면 직렬화해서 저장)
+     *
+     * @param id           게시글 ID (캐시 키)
+     * @param post         조회수를 제외한 게시글 상태 (posts 캐시의 값)
+     * @param viewCount    응답에 넣을 조회수
+     * @param acceptsGzip  클라이언트가 gzip을 받을 수 있는지 (Accept-Encoding)
+     */
+    public PostJsonBody body(Long id, PostResponse post, long viewCount, boolean acceptsGzip) {
+        EncodedPost encoded = cache.getIfPresent(id);
+        if (encoded == null || !encoded.matches(post)) {
+            encoded = EncodedPost.encode(objectMapper, post);
+            cache.put(id, encoded);
+        }
+
+        boolean gzip = acceptsGzip && gzipEnabled
+                && encoded.prefix.length + encoded.suffix.length >= gzipMinSize;
+        if (gzip && !encoded.hasGzip()) {
+            EncodedPost compressed = encoded.withGzip(gzipLevel);
+            // 그 사이 다른 요청이 바꿔 넣었으면 덮어쓰지 않음 (이번 응답에는 압축한 결과를 그대로 사용)
+            cache.asMap().replace(id, encoded, compressed);
+            encoded = compressed;
+        }
+        return new PostJsonBody(encoded, viewCount, gzip);
+    }
+
+    /**
+     * 게시글 수정/삭제 시 캐시 항목 제거
+     */
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+}
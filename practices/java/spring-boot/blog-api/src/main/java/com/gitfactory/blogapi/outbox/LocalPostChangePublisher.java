@@ -0,0 +1,25 @@
+package com.gitfactory.blogapi.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 프로세스의 @EventListener로 발행 (blog.outbox.publisher=local, 기본값)
+ *
+ * 리스너는 릴레이 스레드에서 실행되며, 리스너가 예외를 던지면 발행 실패로 처리되어 다시 전달됩니다.
+ * 오래 걸리는 처리는 @Async 리스너로 분리해서 릴레이가 막히지 않도록 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "blog.outbox.publisher", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalPostChangePublisher implements PostChangePublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(PostChangeEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,24 @@
+package com.gitfactory.blogapi.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 변경 이벤트
+ *
+ * 변경된 게시글의 ID와 종류만 전달합니다. 소비자는 필요하면 게시글을 다시 조회합니다.
+ * 최소 한 번(at-least-once) 전달되므로 같은 이벤트를 두 번 받을 수 있으며, sequence로 중복을 걸러낼 수 있습니다.
+ *
+ * @param sequence outbox 일련번호 (발행 순서)
+ * @param postId 게시글 ID
+ * @param type 변경 종류
+ * @param version 변경 후 게시글 버전 (알 수 없거나 삭제된 경우 null)
+ * @param occurredAt 변경 시각 (트랜잭션 안에서 기록한 시각)
+ */
+public record PostChangeEvent(
+        long sequence,
+        long postId,
+        PostChangeType type,
+        Long version,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,57 @@
+package com.gitfactory.blogapi.outbox;
+
+import com.gitfactory.blogapi.config.JpaAuditingConfig;
+import com.gitfactory.blogapi.entity.Post;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 게시글 변경 이벤트 outbox 기록
+ *
+ * 게시글 변경과 같은 트랜잭션에서 post_outbox에 INSERT 1회만 하고, 발행은 PostOutboxRelay가 따로 처리합니다.
+ * 함께 커밋되거나 함께 롤백되므로 변경 없이 이벤트만 나가거나, 변경되고 이벤트가 빠지는 경우가 없습니다.
+ *
+ * 게시글 행을 변경(잠금)한 뒤에 호출해야 합니다. 같은 게시글에 대한 쓰기는 행 잠금으로 순서가 정해지므로,
+ * 그 이후에 발급되는 outbox 일련번호도 같은 순서가 되어 게시글별 이벤트 순서가 보장됩니다.
+ * JPA로 저장/수정한 경우에는 flush로 INSERT/UPDATE를 먼저 실행한 뒤 호출합니다 (쓰기 지연 상태로 기록하지 않음).
+ */
+@Component
+@RequiredArgsConstructor
+public class PostChangeOutbox {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO post_outbox (post_id, event_type, version, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 변경 이벤트 기록 (진행 중인 트랜잭션 필수)
+     *
+     * @param version 변경 후 버전 (알 수 없으면 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long postId, PostChangeType type, Long version) {
+        jdbcTemplate.update(INSERT_SQL, postId, type.name(), version,
+                Timestamp.valueOf(JpaAuditingConfig.currentTime()));
+    }
+
+    /**
+     * 생성 이벤트 일괄 기록 (대량 등록용, JDBC 배치 1회)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(List<Post> posts) {
+        Timestamp now = Timestamp.valueOf(JpaAuditingConfig.currentTime());
+        jdbcTemplate.batchUpdate(INSERT_SQL, posts, posts.size(), (ps, post) -> {
+            ps.setLong(1, post.getId());
+            ps.setString(2, PostChangeType.CREATED.name());
+            ps.setLong(3, post.getVersion());
+            ps.setTimestamp(4, now);
+        });
+    }
+}
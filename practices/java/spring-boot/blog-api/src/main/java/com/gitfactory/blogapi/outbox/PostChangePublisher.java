@@ -0,0 +1,14 @@
+package com.gitfactory.blogapi.outbox;
+
+/**
+ * 게시글 변경 이벤트 발행 대상
+ *
+ * PostOutboxRelay가 outbox 순서대로 한 건씩 호출합니다.
+ * 정상 반환하면 전달된 것으로 보고 outbox에서 삭제하며, 예외를 던지면 그 게시글은 그 이벤트부터 다음 주기에 다시 발행합니다
+ * (blog.outbox.max-attempts번 실패하면 보류).
+ * 메시지 브로커(Kafka 등) 구현은 전송 확인(ack)을 받은 뒤 반환해야 하고, 파티션 키로 postId를 사용하면 게시글별 순서가 유지됩니다.
+ */
+public interface PostChangePublisher {
+
+    void publish(PostChangeEvent event);
+}
@@ -0,0 +1,10 @@
+package com.gitfactory.blogapi.outbox;
+
+/**
+ * 게시글 변경 종류
+ */
+public enum PostChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,222 @@
+package com.gitfactory.blogapi.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * outbox 릴레이: post_outbox에 쌓인 이벤트를 주기적으로(blog.outbox.relay-interval-ms) 발행
+ *
+ * 한 트랜잭션에서 일련번호 순으로 batch-size건을 잠가서 읽고(FOR UPDATE), 순서대로 발행한 뒤 발행된 행을 삭제합니다.
+ * - 최소 한 번 전달: 발행 후 커밋 전에 실패하면 같은 이벤트가 다시 발행됩니다.
+ * - 순서: 발행에 실패하면 실패 횟수(attempts)를 올리고, 이번 실행에서는 같은 게시글의 뒤 이벤트만 발행하지 않습니다.
+ *   다른 게시글의 이벤트는 계속 발행하고, 실패한 이벤트는 다음 주기에 그 이벤트부터 다시 시도합니다.
+ *   여러 노드가 동시에 실행해도 먼저 잠근 노드가 커밋할 때까지 다른 노드는 대기하므로 순서가 섞이지 않습니다.
+ * - 보류: blog.outbox.max-attempts번 실패한 이벤트는 parked로 표시하고 더 이상 읽지 않습니다 (blog.outbox.parked 게이지).
+ *   원인을 해결한 뒤 parked = FALSE로 되돌리면 다시 발행됩니다.
+ * - 쓰기 요청은 INSERT 1회만 부담하고, 발행 속도나 소비자 처리량은 쓰기 지연시간에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+public class PostOutboxRelay {
+
+    private static final String SELECT_SQL = """
+            SELECT id, post_id, event_type, version, created_at, attempts
+            FROM post_outbox
+            WHERE parked = FALSE AND id > ?
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE
+            """;
+    private static final String DELETE_SQL = "DELETE FROM post_outbox WHERE id = ?";
+    private static final String FAILURE_SQL =
+            "UPDATE post_outbox SET attempts = attempts + 1, parked = (attempts + 1 >= ?) WHERE id = ?";
+    private static final String BACKLOG_SQL = """
+            SELECT COUNT(CASE WHEN parked = FALSE THEN 1 END) AS pending,
+                   COUNT(CASE WHEN parked = TRUE THEN 1 END) AS parked,
+                   MIN(CASE WHEN parked = FALSE THEN created_at END) AS oldest
+            FROM post_outbox
+            """;
+
+    private static final RowMapper<OutboxRow> OUTBOX_ROW_MAPPER = (rs, rowNum) -> new OutboxRow(
+            new PostChangeEvent(
+                    rs.getLong("id"),
+                    rs.getLong("post_id"),
+                    PostChangeType.valueOf(rs.getString("event_type")),
+                    rs.getObject("version", Long.class),
+                    rs.getTimestamp("created_at").toLocalDateTime()),
+            rs.getInt("attempts"));
+
+    private final PostChangePublisher publisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Counter parkedCounter;
+    private final Timer deliveryLag;
+    private final ReentrantLock relayLock = new ReentrantLock();
+
+    private volatile long pending;
+    private volatile long parked;
+    private volatile double oldestAgeSeconds;
+
+    public PostOutboxRelay(PostChangePublisher publisher,
+                           JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${blog.outbox.batch-size:200}") int batchSize,
+                           @Value("${blog.outbox.max-attempts:10}") int maxAttempts,
+                           MeterRegistry meterRegistry) {
+        this.publisher = publisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.publishedCounter = Counter.builder("blog.outbox.published")
+                .description("Post change events published from the outbox")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("blog.outbox.publish.failures")
+                .description("Failed publish attempts (the event is retried on the next run)")
+                .register(meterRegistry);
+        this.parkedCounter = Counter.builder("blog.outbox.parked.events")
+                .description("Events parked after reaching the maximum publish attempts")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("blog.outbox.delivery.lag")
+                .description("Time from the post change to the event being published")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("blog.outbox.pending", this, relay -> relay.pending)
+                .description("Unpublished events in the outbox (as of the last relay run)")
+                .register(meterRegistry);
+        Gauge.builder("blog.outbox.parked", this, relay -> relay.parked)
+                .description("Parked events waiting for manual recovery (as of the last relay run)")
+                .register(meterRegistry);
+        Gauge.builder("blog.outbox.oldest.age", this, relay -> relay.oldestAgeSeconds)
+                .description("Age of the oldest unpublished event (as of the last relay run)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 쌓인 이벤트를 모두 발행 (발행에 실패한 게시글은 실패한 이벤트부터 다음 실행으로 넘김)
+     *
+     * @return 발행한 이벤트 수
+     */
+    @Scheduled(fixedDelayString = "${blog.outbox.relay-interval-ms:500}")
+    public int relay() {
+        // 스케줄러와 수동 호출이 겹치지 않도록 (가상 스레드 pinning을 피하기 위해 synchronized 대신 Lock 사용)
+        relayLock.lock();
+        try {
+            int total = 0;
+            // 이번 실행에서 발행에 실패한 게시글 (뒤 이벤트를 먼저 발행하지 않도록 배치가 바뀌어도 유지)
+            Set<Long> heldBack = new HashSet<>();
+            long afterSequence = 0;
+            try {
+                while (true) {
+                    long from = afterSequence;
+                    BatchResult result = transactionTemplate.execute(status -> relayBatch(from, heldBack));
+                    total += result.published();
+                    if (result.read() < batchSize) {
+                        break;
+                    }
+                    // 남겨둔 행(실패/대기)을 다시 읽지 않도록 마지막으로 읽은 일련번호 이후부터
+                    afterSequence = result.lastSequence();
+                }
+            } catch (DataAccessException | TransactionException e) {
+                // 삭제가 커밋되지 않은 이벤트는 다음 주기에 다시 발행됨
+                log.warn("Outbox relay failed after publishing {} events, retrying on next run", total, e);
+            }
+            refreshBacklog();
+            return total;
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    private BatchResult relayBatch(long afterSequence, Set<Long> heldBack) {
+        List<OutboxRow> rows = jdbcTemplate.query(SELECT_SQL, OUTBOX_ROW_MAPPER, afterSequence, batchSize);
+        List<Long> published = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            PostChangeEvent event = row.event();
+            if (heldBack.contains(event.postId())) {
+                continue;
+            }
+            try {
+                publisher.publish(event);
+            } catch (RuntimeException e) {
+                heldBack.add(event.postId());
+                recordFailure(row, e);
+                continue;
+            }
+            published.add(event.sequence());
+            deliveryLag.record(Duration.between(event.occurredAt(), LocalDateTime.now()));
+        }
+
+        if (!published.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, published, published.size(),
+                    (ps, sequence) -> ps.setLong(1, sequence));
+            publishedCounter.increment(published.size());
+        }
+        long lastSequence = rows.isEmpty() ? afterSequence : rows.get(rows.size() - 1).event().sequence();
+        return new BatchResult(rows.size(), published.size(), lastSequence);
+    }
+
+    /**
+     * 실패 횟수 증가, max-attempts에 도달하면 보류 (같은 트랜잭션에서 발행된 행 삭제와 함께 커밋)
+     */
+    private void recordFailure(OutboxRow row, RuntimeException cause) {
+        PostChangeEvent event = row.event();
+        int attempts = row.attempts() + 1;
+        failureCounter.increment();
+        jdbcTemplate.update(FAILURE_SQL, maxAttempts, event.sequence());
+        if (attempts >= maxAttempts) {
+            parkedCounter.increment();
+            log.error("Parked {} event #{} of post {} after {} failed publish attempts",
+                    event.type(), event.sequence(), event.postId(), attempts, cause);
+        } else {
+            log.warn("Failed to publish {} event #{} of post {} (attempt {}/{}), retrying on next run",
+                    event.type(), event.sequence(), event.postId(), attempts, maxAttempts, cause);
+        }
+    }
+
+    private void refreshBacklog() {
+        try {
+            jdbcTemplate.query(BACKLOG_SQL, rs -> {
+                pending = rs.getLong("pending");
+                parked = rs.getLong("parked");
+                Timestamp oldest = rs.getTimestamp("oldest");
+                oldestAgeSeconds = oldest == null
+                        ? 0
+                        : Duration.between(oldest.toLocalDateTime(), LocalDateTime.now()).toMillis() / 1000.0;
+            });
+        } catch (DataAccessException e) {
+            log.debug("Failed to read outbox backlog", e);
+        }
+    }
+
+    private record OutboxRow(PostChangeEvent event, int attempts) {
+    }
+
+    private record BatchResult(int read, int published, long lastSequence) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.gitfactory.blogapi.querycount;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 실행된 SQL 문 개수를 세는 DataSource
+ *
+ * 커넥션과 Statement를 JDK 동적 프록시로 감싸서 execute 계열 메서드가 호출될 때마다
+ * QueryCountHolder.increment()를 호출합니다 (JDBC 배치는 executeBatch 1회를 1개로 셈).
+ * Hibernate뿐 아니라 JdbcTemplate처럼 이 DataSource를 거치는 모든 SQL이 집계됩니다.
+ */
+public class QueryCountDataSource extends DelegatingDataSource {
+
+    static final Set<Class<?>> STATEMENT_TYPES =
+            Set.of(Statement.class, PreparedStatement.class, CallableStatement.class);
+
+    private static final String EXECUTE_PREFIX = "execute";
+
+    public QueryCountDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(QueryCountDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && STATEMENT_TYPES.contains(method.getReturnType())) {
+                        return countingStatement(statement, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    private static Object countingStatement(Statement statement, Class<?> statementType) {
+        return Proxy.newProxyInstance(QueryCountDataSource.class.getClassLoader(),
+                new Class<?>[]{statementType}, (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    if (method.getName().startsWith(EXECUTE_PREFIX)) {
+                        QueryCountHolder.increment();
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    /**
+     * 프록시끼리 비교할 수 있도록 equals/hashCode는 프록시 자신을 기준으로 처리
+     */
+    private static boolean isIdentityMethod(Method method) {
+        return (method.getName().equals("equals") && method.getParameterCount() == 1)
+                || (method.getName().equals("hashCode") && method.getParameterCount() == 0);
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.gitfactory.blogapi.querycount;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource를 QueryCountDataSource로 감싸는 설정
+ *
+ * JPA, Flyway, JdbcTemplate이 주입받는 dataSource 빈만 감쌉니다.
+ * 읽기-쓰기 분리 설정에서는 primary/replica 풀이 아니라 그 앞의 라우팅 DataSource가 dataSource 빈이므로
+ * 한 SQL을 두 번 세지 않습니다.
+ */
+@Configuration
+public class QueryCountDataSourceConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor queryCountDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof QueryCountDataSource)) {
+                    return new QueryCountDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.gitfactory.blogapi.querycount;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청별 SQL 실행 개수 집계 필터
+ *
+ * - 요청마다 blog.http.server.queries 메트릭(uri, method 태그)에 기록
+ * - 임계값을 넘는 요청은 WARN 로그로 표시 (N+1 의심)
+ * - 응답 헤더 X-Query-Count는 본문 작성 직전 QueryCountHeaderAdvice가 설정하며,
+ *   본문 없이 끝난 응답은 커밋 전이면 여기서 설정
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "X-Query-Count";
+    private static final String METRIC_NAME = "blog.http.server.queries";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCountHolder.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = QueryCountHolder.get();
+            String uri = resolveUri(request);
+
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("SQL statements executed per HTTP request")
+                    .tag("uri", uri)
+                    .tag("method", request.getMethod())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(count);
+
+            if (count > warnThreshold) {
+                log.warn("{} {} executed {} SQL statements (threshold {})",
+                        request.getMethod(), uri, count, warnThreshold);
+            }
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER_NAME, String.valueOf(count));
+            }
+            QueryCountHolder.clear();
+        }
+    }
+
+    private static String resolveUri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,34 @@
+package com.gitfactory.blogapi.querycount;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 개수 보관소
+ *
+ * 요청(또는 테스트) 시작 시 reset()하고, 끝난 뒤 get()으로 개수를 확인합니다.
+ * QueryCountDataSource가 SQL을 실행할 때마다 increment()를 호출합니다.
+ */
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    private QueryCountHolder() {
+    }
+
+    public static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    public static int get() {
+        return COUNT.get()[0];
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * 스레드 풀 재사용 시 값이 남지 않도록 ThreadLocal 제거
+     */
+    public static void clear() {
+        COUNT.remove();
+    }
+}
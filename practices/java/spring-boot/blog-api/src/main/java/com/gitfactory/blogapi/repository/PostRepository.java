@@ -1,13 +1,27 @@
 package com.gitfactory.blogapi.repository;
 
+import com.gitfactory.blogapi.config.HibernateCacheConfig;
 import com.gitfactory.blogapi.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 게시글 Repository
+ *
+ * 작성자별 첫 페이지 조회(GET /api/posts/author/{author})는 Hibernate 쿼리 캐시(post-queries 영역)를 사용합니다.
+ * posts 테이블이 JPA로 수정되면 해당 결과는 다음 조회 시 무효화됩니다.
  */
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -35,4 +49,207 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @return 해당 작성자의 모든 게시글
      */
     List<Post> findByAuthor(String author);
-}
\ No newline at end of file
+
+    /**
+     * 커서 기반 첫 페이지 조회 (최신순)
+     *
+     * @param pageable 조회 건수 (offset은 항상 0)
+     * @return (createdAt, id) 내림차순 게시글 목록
+     */
+    @Query("SELECT p FROM Post p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findFirstPage(Pageable pageable);
+
+    /**
+     * 커서 이후 페이지 조회 (최신순, keyset 방식)
+     *
+     * OFFSET 없이 (createdAt, id) 조건으로 바로 탐색하므로 페이지 깊이와 무관하게 비용이 일정합니다.
+     *
+     * @param createdAt 이전 페이지 마지막 게시글의 생성일시
+     * @param id 이전 페이지 마지막 게시글의 ID
+     * @param pageable 조회 건수 (offset은 항상 0)
+     * @return 커서 이후의 게시글 목록
+     */
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.createdAt < :createdAt
+               OR (p.createdAt = :createdAt AND p.id < :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") Long id,
+                             Pageable pageable);
+
+    /**
+     * 전체 게시글 요약 조회 (본문 제외)
+     *
+     * @return 전체 게시글 요약 목록
+     */
+    List<PostSummary> findAllProjectedBy();
+
+    /**
+     * ID 목록으로 게시글 요약 조회 (본문 제외)
+     *
+     * @param ids 게시글 ID 목록
+     * @return 게시글 요약 목록 (순서 보장 없음)
+     */
+    List<PostSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    /**
+     * 작성자로 게시글 요약 검색 (본문 제외)
+     *
+     * @param author 작성자명
+     * @return 해당 작성자의 게시글 요약 목록
+     */
+    List<PostSummary> findSummariesByAuthor(String author);
+
+    /**
+     * 커서 기반 첫 페이지 요약 조회 (최신순, 본문 제외)
+     *
+     * @param pageable 조회 건수 (offset은 항상 0)
+     * @return (createdAt, id) 내림차순 게시글 요약 목록
+     */
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.author AS author,
+                   p.createdAt AS createdAt, p.updatedAt AS updatedAt, p.version AS version
+            FROM Post p
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummary> findSummaryFirstPage(Pageable pageable);
+
+    /**
+     * 커서 이후 페이지 요약 조회 (최신순, keyset 방식, 본문 제외)
+     *
+     * @param createdAt 이전 페이지 마지막 게시글의 생성일시
+     * @param id 이전 페이지 마지막 게시글의 ID
+     * @param pageable 조회 건수 (offset은 항상 0)
+     * @return 커서 이후의 게시글 요약 목록
+     */
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.author AS author,
+                   p.createdAt AS createdAt, p.updatedAt AS updatedAt, p.version AS version
+            FROM Post p
+            WHERE p.createdAt < :createdAt
+               OR (p.createdAt = :createdAt AND p.id < :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummary> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    /**
+     * 작성자의 커서 기반 첫 페이지 조회 (최신순)
+     *
+     * (author, created_at, id) 인덱스를 역방향으로 읽으므로 정렬 없이 필요한 건수만 읽습니다.
+     *
+     * @param author 작성자명
+     * @param pageable 조회 건수 (offset은 항상 0)
+     * @return (createdAt, id) 내림차순 게시글 목록
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.POST_QUERY_REGION)
+    })
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.author = :author
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findByAuthorFirstPage(@Param("author") String author, Pageable pageable);
+
+    /**
+     * 작성자의 커서 이후 페이지 조회 (최신순, keyset 방식)
+     *
+     * @param author 작성자명
+     * @param createdAt 이전 페이지 마지막 게시글의 생성일시
+     * @param id 이전 페이지 마지막 게시글의 ID
+     * @param pageable 조회 건수 (offset은 항상 0)
+     * @return 커서 이후의 게시글 목록
+     */
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.author = :author
+              AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findByAuthorPageAfter(@Param("author") String author,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    /**
+     * 작성자의 커서 기반 첫 페이지 요약 조회 (최신순, 본문 제외)
+     *
+     * @param author 작성자명
+     * @param pageable 조회 건수 (offset은 항상 0)
+     * @return (createdAt, id) 내림차순 게시글 요약 목록
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.POST_QUERY_REGION)
+    })
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.author AS author,
+                   p.createdAt AS createdAt, p.updatedAt AS updatedAt, p.version AS version
+            FROM Post p
+            WHERE p.author = :author
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummary> findSummariesByAuthorFirstPage(@Param("author") String author, Pageable pageable);
+
+    /**
+     * 작성자의 커서 이후 페이지 요약 조회 (최신순, keyset 방식, 본문 제외)
+     *
+     * @param author 작성자명
+     * @param createdAt 이전 페이지 마지막 게시글의 생성일시
+     * @param id 이전 페이지 마지막 게시글의 ID
+     * @param pageable 조회 건수 (offset은 항상 0)
+     * @return 커서 이후의 게시글 요약 목록
+     */
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.author AS author,
+                   p.createdAt AS createdAt, p.updatedAt AS updatedAt, p.version AS version
+            FROM Post p
+            WHERE p.author = :author
+              AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummary> findSummariesByAuthorPageAfter(@Param("author") String author,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    /**
+     * 전체 게시글 스트리밍 조회 (내보내기용)
+     *
+     * 결과를 한 번에 메모리에 올리지 않고 fetch size 단위로 읽어옵니다.
+     * 반드시 트랜잭션 안에서 사용하고, 사용 후 Stream을 닫아야 합니다.
+     *
+     * @return ID 오름차순 게시글 Stream
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Post p ORDER BY p.id")
+    Stream<Post> streamAll();
+
+    /**
+     * ID로 게시글 삭제 (DELETE 1회, 엔티티를 먼저 조회하지 않음)
+     *
+     * 벌크 DELETE는 어떤 행이 지워졌는지 Hibernate가 알 수 없으므로 2차 캐시의 post 영역 전체를 비웁니다.
+     * 삭제는 수정보다 드물어서 SELECT 없이 한 번에 지우는 쪽을 택했습니다.
+     * (커밋 후 id 하나만 evict하면 그 사이 다른 트랜잭션의 조회가 삭제 전 행을 다시 캐시에 넣을 수 있음)
+     *
+     * @param id 삭제할 게시글 ID
+     * @param expectedVersion 조건부 삭제용 버전 (If-Match, null이면 조건 없음)
+     * @return 삭제된 행 수 (0이면 존재하지 않거나 버전 불일치)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            DELETE FROM Post p
+            WHERE p.id = :id
+              AND (:expectedVersion IS NULL OR p.version = :expectedVersion)
+            """)
+    int deletePostById(@Param("id") Long id,
+                       @Param("expectedVersion") Long expectedVersion);
+}
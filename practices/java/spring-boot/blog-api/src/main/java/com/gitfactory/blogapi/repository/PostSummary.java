@@ -0,0 +1,23 @@
+package com.gitfactory.blogapi.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약 Projection
+ *
+ * content(TEXT) 컬럼을 SELECT 하지 않으므로 목록 조회 시 DB 읽기량과 힙 사용량이 줄어듭니다.
+ */
+public interface PostSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getVersion();
+}
@@ -0,0 +1,302 @@
+package com.gitfactory.blogapi.search;
+
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 프로세스 내 역색인(inverted index) 기반 검색 인덱스
+ *
+ * 단어 → 게시글 ID 목록(posting)을 메모리에 유지하며, 검색 비용은 전체 게시글 수가 아니라
+ * 검색어와 일치하는 게시글 수에 비례합니다. 애플리케이션 시작 시 DB 내용을 한 번 적재하고,
+ * 이후에는 PostService의 생성/수정/삭제 시점에 함께 갱신됩니다.
+ * 다른 인스턴스의 변경은 반영되지 않으므로, 쓰기 API가 없는 reactive 프로필에서는 사용하지 않습니다.
+ *
+ * 한글/한자/가나는 어절 뒤에 조사·어미가 붙으므로("스프링을", "스프링에서") 어절 단위가 아니라
+ * 두 글자씩 겹쳐 자른 bigram으로 색인합니다. 검색어도 같은 방식으로 잘라서 모든 bigram을 포함한 게시글을 찾으므로
+ * "스프링"으로 "스프링을"을 찾을 수 있습니다 (한 글자 검색어는 한 글자 어절만 찾음).
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "blog.search.engine", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InMemoryPostSearchIndex implements PostSearchIndex {
+
+    /** 조사·어미가 붙어 쓰이는 문자 (bigram으로 색인) */
+    private static final String CJK = "\\p{IsHangul}\\p{IsHan}\\p{IsHiragana}\\p{IsKatakana}";
+
+    /** 한글 등의 연속 구간(group 1) 또는 그 외 글자/숫자로 된 단어 */
+    private static final Pattern TOKEN = Pattern.compile("([" + CJK + "]+)|[\\p{L}\\p{N}&&[^" + CJK + "]]+");
+
+    /** 제목에 포함된 단어의 가중치 */
+    private static final double TITLE_BOOST = 3.0;
+
+    private static final int WARM_UP_BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 적재 중에 삭제된 게시글 ID (적재가 먼저 읽어둔 행으로 다시 등록하지 않도록, lock으로 보호) */
+    private final Set<Long> removedDuringWarmUp = new HashSet<>();
+    private boolean warmingUp;
+
+    /**
+     * 시작 시 기존 게시글을 keyset 방식으로 나눠 읽어 인덱스를 구성
+     *
+     * 기동을 막지 않도록 백그라운드(applicationTaskExecutor)에서 실행합니다.
+     * 적재 중에 생성/수정된 게시글이 더 최신이므로, 이미 인덱스에 있는 게시글은 덮어쓰지 않습니다.
+     * 적재 중에 삭제된 게시글은 ID를 기록해 두고, 삭제 전에 읽은 행이라도 등록하지 않습니다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        setWarmingUp(true);
+        try {
+            PageRequest batchSize = PageRequest.ofSize(WARM_UP_BATCH_SIZE);
+            List<Post> batch = postRepository.findFirstPage(batchSize);
+            int indexed = 0;
+            while (!batch.isEmpty()) {
+                batch.forEach(this::indexIfAbsent);
+                indexed += batch.size();
+                Post last = batch.get(batch.size() - 1);
+                batch = postRepository.findPageAfter(last.getCreatedAt(), last.getId(), batchSize);
+            }
+            log.info("In-memory search index loaded {} posts", indexed);
+        } finally {
+            setWarmingUp(false);
+        }
+    }
+
+    private void setWarmingUp(boolean warmingUp) {
+        lock.writeLock().lock();
+        try {
+            this.warmingUp = warmingUp;
+            removedDuringWarmUp.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Post post) {
+        Document document = new Document(
+                termFrequencies(post.getTitle()),
+                termFrequencies(post.getContent())
+        );
+
+        lock.writeLock().lock();
+        try {
+            putInternal(post.getId(), document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void indexIfAbsent(Post post) {
+        Document document = new Document(
+                termFrequencies(post.getTitle()),
+                termFrequencies(post.getContent())
+        );
+
+        lock.writeLock().lock();
+        try {
+            if (!documents.containsKey(post.getId()) && !removedDuringWarmUp.contains(post.getId())) {
+                putInternal(post.getId(), document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void update(Long id, String title, String content) {
+        Map<String, Integer> titleTerms = title != null ? termFrequencies(title) : null;
+        Map<String, Integer> contentTerms = content != null ? termFrequencies(content) : null;
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.get(id);
+            if (previous == null) {
+                // 인덱스에 없는 게시글은 나머지 필드를 알 수 없으므로 무시
+                return;
+            }
+            putInternal(id, new Document(
+                    titleTerms != null ? titleTerms : previous.titleTerms(),
+                    contentTerms != null ? contentTerms : previous.contentTerms()
+            ));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (warmingUp) {
+                removedDuringWarmUp.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public SearchHits search(String query, int page, int size) {
+        List<String> terms = tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return SearchHits.empty();
+        }
+
+        List<SearchHits.Hit> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<String, Set<Long>> termPostings = new HashMap<>();
+            for (String term : terms) {
+                Set<Long> ids = postings.get(term);
+                if (ids == null) {
+                    return SearchHits.empty();
+                }
+                termPostings.put(term, ids);
+            }
+
+            // 가장 짧은 posting 목록을 기준으로 교집합 계산
+            Set<Long> smallest = termPostings.values().stream()
+                    .min(Comparator.comparingInt(Set::size))
+                    .orElseThrow();
+            int documentCount = documents.size();
+
+            for (Long id : smallest) {
+                if (termPostings.values().stream().allMatch(ids -> ids.contains(id))) {
+                    double score = score(documents.get(id), termPostings, documentCount);
+                    matches.add(new SearchHits.Hit(id, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(SearchHits.Hit::score).reversed()
+                .thenComparing(SearchHits.Hit::postId, Comparator.reverseOrder()));
+
+        // page * size가 int 범위를 넘지 않도록 long으로 계산한 뒤 결과 수로 제한
+        int from = (int) Math.min((long) page * size, matches.size());
+        int to = (int) Math.min((long) from + size, matches.size());
+        return new SearchHits(List.copyOf(matches.subList(from, to)), matches.size());
+    }
+
+    private void putInternal(Long id, Document document) {
+        removeInternal(id);
+        documents.put(id, document);
+        for (String term : document.terms()) {
+            postings.computeIfAbsent(term, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeInternal(Long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Set<Long> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * TF-IDF 점수 (제목 일치에 가중치 부여)
+     */
+    private static double score(Document document, Map<String, Set<Long>> termPostings, int documentCount) {
+        double score = 0;
+        for (Map.Entry<String, Set<Long>> entry : termPostings.entrySet()) {
+            String term = entry.getKey();
+            double tf = TITLE_BOOST * document.titleTerms().getOrDefault(term, 0)
+                    + document.contentTerms().getOrDefault(term, 0);
+            double idf = Math.log(1 + (double) documentCount / entry.getValue().size());
+            score += (1 + Math.log(tf)) * idf;
+        }
+        return score;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            String run = matcher.group(1);
+            if (run == null) {
+                tokens.add(matcher.group());
+            } else {
+                addBigrams(run, tokens);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 두 글자씩 겹쳐 자르기 ("스프링을" → 스프, 프링, 링을), 한 글자면 그대로
+     */
+    private static void addBigrams(String run, List<String> tokens) {
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static Map<String, Integer> termFrequencies(String text) {
+        return tokenize(text).stream()
+                .collect(Collectors.toMap(Function.identity(), token -> 1, Integer::sum));
+    }
+
+    /**
+     * 게시글 한 건의 필드별 단어 빈도
+     */
+    private record Document(Map<String, Integer> titleTerms, Map<String, Integer> contentTerms) {
+
+        Set<String> terms() {
+            Set<String> terms = new HashSet<>(titleTerms.keySet());
+            terms.addAll(contentTerms.keySet());
+            return terms;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.gitfactory.blogapi.search;
+
+import com.gitfactory.blogapi.entity.Post;
+
+/**
+ * 게시글 전문 검색 인덱스
+ *
+ * 제목과 본문을 대상으로 검색하며, 관련도 순으로 정렬된 게시글 ID를 반환합니다.
+ * 구현체는 blog.search.engine 속성(memory | postgres)으로 선택합니다.
+ */
+public interface PostSearchIndex {
+
+    /**
+     * 게시글을 인덱스에 추가하거나 갱신
+     *
+     * @param post 인덱싱할 게시글
+     */
+    void index(Post post);
+
+    /**
+     * 게시글 일부 필드만 인덱스에 반영 (부분 수정용)
+     *
+     * @param id 게시글 ID
+     * @param title 수정된 제목 (null이면 기존 값 유지)
+     * @param content 수정된 내용 (null이면 기존 값 유지)
+     */
+    void update(Long id, String title, String content);
+
+    /**
+     * 게시글을 인덱스에서 제거
+     *
+     * @param id 제거할 게시글 ID
+     */
+    void remove(Long id);
+
+    /**
+     * 키워드 검색 (모든 검색어를 포함하는 게시글만 반환)
+     *
+     * @param query 검색어 (공백으로 구분된 여러 단어 가능)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 관련도 내림차순 검색 결과
+     */
+    SearchHits search(String query, int page, int size);
+}
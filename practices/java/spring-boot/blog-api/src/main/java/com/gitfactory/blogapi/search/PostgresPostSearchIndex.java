@@ -0,0 +1,114 @@
+package com.gitfactory.blogapi.search;
+
+import com.gitfactory.blogapi.entity.Post;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL pg_trgm/GIN 기반 검색 인덱스
+ *
+ * 검색 대상 문서는 DB가 직접 관리하므로 index/remove는 별도 작업이 없습니다.
+ * 검색어의 단어마다 제목+본문에 부분 문자열로 포함된 게시글을 찾으므로(ILIKE) 조사가 붙은 한글 어절
+ * ("스프링을")도 "스프링"으로 찾습니다. 후보 행은 Flyway 마이그레이션(postgresql/V8__create_posts_trigram_index.sql)의
+ * pg_trgm GIN 인덱스로 좁히며, 검색 쿼리는 그 인덱스와 같은 표현식을 사용해야 인덱스를 탑니다.
+ * 관련도는 어절 단위로 일치한 tsvector 순위에 제목 일치 가중치를 더해 계산합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "blog.search.engine", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresPostSearchIndex implements PostSearchIndex {
+
+    /** 검색 대상 텍스트 표현식 (V8 마이그레이션의 인덱스 표현식과 같게 유지) */
+    private static final String SEARCH_TEXT = "(coalesce(title, '') || ' ' || coalesce(content, ''))";
+
+    /** 제목(A) / 본문(B) 가중치를 둔 관련도 계산용 문서 표현식 */
+    private static final String DOCUMENT = """
+            (setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+             || setweight(to_tsvector('simple', coalesce(content, '')), 'B'))""";
+
+    /** 제목에 검색어가 모두 포함된 경우 더하는 점수 (ts_rank는 대부분 1 미만) */
+    private static final double TITLE_MATCH_BOOST = 1.0;
+
+    /** 단어는 글자/숫자로만 이뤄지므로 LIKE 패턴 문자(%, _)를 이스케이프할 필요가 없음 */
+    private static final Pattern WORD_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /** 1: 문서 표현식, 2: 제목 일치 가중치, 3: 제목 일치 조건, 4: 검색 조건 */
+    private static final String SEARCH_SQL = """
+            SELECT id, ts_rank(%1$s, plainto_tsquery('simple', :query))
+                       + CASE WHEN %3$s THEN %2$s ELSE 0 END AS score
+            FROM posts
+            WHERE %4$s
+            ORDER BY score DESC, id DESC
+            LIMIT :limit OFFSET :offset
+            """;
+
+    private static final String COUNT_SQL = """
+            SELECT count(*)
+            FROM posts
+            WHERE %s
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void index(Post post) {
+        // posts 테이블 자체가 검색 대상이므로 별도 인덱싱이 필요 없음
+    }
+
+    @Override
+    public void update(Long id, String title, String content) {
+        // posts 테이블 자체가 검색 대상이므로 별도 인덱싱이 필요 없음
+    }
+
+    @Override
+    public void remove(Long id) {
+        // posts 테이블 자체가 검색 대상이므로 별도 인덱싱이 필요 없음
+    }
+
+    @Override
+    public SearchHits search(String query, int page, int size) {
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            return SearchHits.empty();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", size)
+                .addValue("offset", (long) page * size);
+        StringJoiner textMatch = new StringJoiner(" AND ");
+        StringJoiner titleMatch = new StringJoiner(" AND ");
+        for (int i = 0; i < words.size(); i++) {
+            params.addValue("word" + i, "%" + words.get(i) + "%");
+            textMatch.add(SEARCH_TEXT + " ILIKE :word" + i);
+            titleMatch.add("title ILIKE :word" + i);
+        }
+
+        List<SearchHits.Hit> hits = jdbcTemplate.query(
+                SEARCH_SQL.formatted(DOCUMENT, TITLE_MATCH_BOOST, titleMatch, textMatch), params,
+                (rs, rowNum) -> new SearchHits.Hit(rs.getLong("id"), rs.getDouble("score")));
+        Long total = jdbcTemplate.queryForObject(COUNT_SQL.formatted(textMatch), params, Long.class);
+
+        return new SearchHits(hits, total == null ? 0 : total);
+    }
+
+    /**
+     * 검색어를 글자/숫자가 아닌 문자 기준으로 단어로 분리 (중복 제거)
+     */
+    private static List<String> words(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return WORD_DELIMITER.splitAsStream(query)
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,29 @@
+package com.gitfactory.blogapi.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 (관련도 내림차순)
+ *
+ * @param hits 현재 페이지의 검색 결과
+ * @param totalHits 전체 일치 건수
+ */
+public record SearchHits(List<Hit> hits, long totalHits) {
+
+    /**
+     * 검색 결과 한 건
+     *
+     * @param postId 게시글 ID
+     * @param score 관련도 점수
+     */
+    public record Hit(Long postId, double score) {
+    }
+
+    public static SearchHits empty() {
+        return new SearchHits(List.of(), 0);
+    }
+
+    public List<Long> postIds() {
+        return hits.stream().map(Hit::postId).toList();
+    }
+}
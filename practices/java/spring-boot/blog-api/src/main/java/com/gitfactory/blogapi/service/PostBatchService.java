@@ -0,0 +1,146 @@
+package com.gitfactory.blogapi.service;
+
+import com.gitfactory.blogapi.dto.BatchCreateResponse;
+import com.gitfactory.blogapi.dto.BatchItemResult;
+import com.gitfactory.blogapi.dto.PostRequest;
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.exception.InvalidRequestException;
+import com.gitfactory.blogapi.outbox.PostChangeOutbox;
+import com.gitfactory.blogapi.repository.PostRepository;
+import com.gitfactory.blogapi.search.PostSearchIndex;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게시글 대량 등록 서비스
+ *
+ * 요청을 chunk 단위 트랜잭션으로 나눠 저장합니다. chunk 내부의 INSERT는
+ * 시퀀스 ID(pooled) + hibernate.jdbc.batch_size 설정으로 JDBC 배치 전송되며,
+ * chunk마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지합니다.
+ * 한 chunk가 실패해도 이미 커밋된 chunk는 유지되고, 실패한 항목만 결과에 표시됩니다.
+ * 생성 이벤트는 chunk 트랜잭션 안에서 outbox에 JDBC 배치로 기록합니다.
+ */
+@Slf4j
+@Service
+public class PostBatchService {
+
+    /** 한 번에 요청할 수 있는 최대 건수 */
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    /** chunk 실패 시 항목별 오류 메시지 (예외 메시지에는 SQL/제약조건 등 내부 정보가 있어 응답에 넣지 않음) */
+    static final String CHUNK_FAILED_ERROR = "Chunk rolled back due to an internal error";
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final PostChangeOutbox postChangeOutbox;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public PostBatchService(PostRepository postRepository,
+                            PostSearchIndex postSearchIndex,
+                            PostChangeOutbox postChangeOutbox,
+                            EntityManager entityManager,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${blog.batch.chunk-size:500}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.postChangeOutbox = postChangeOutbox;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 게시글 대량 등록
+     *
+     * @param requests 등록할 게시글 목록 (최대 {@value #MAX_BATCH_SIZE}건)
+     * @return 요청 순서대로 정렬된 항목별 결과
+     * @throws InvalidRequestException 최대 건수를 넘은 경우
+     */
+    public BatchCreateResponse createPosts(List<PostRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException(
+                    "Batch size must not exceed " + MAX_BATCH_SIZE + ": " + requests.size());
+        }
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error == null) {
+                validIndexes.add(i);
+            } else {
+                results[i] = BatchItemResult.failed(i, error);
+            }
+        }
+
+        for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size()));
+            saveChunk(requests, chunk, results);
+        }
+
+        return BatchCreateResponse.of(Arrays.asList(results));
+    }
+
+    /**
+     * chunk 하나를 하나의 트랜잭션으로 저장
+     */
+    private void saveChunk(List<PostRequest> requests, List<Integer> chunk, BatchItemResult[] results) {
+        try {
+            List<Post> saved = transactionTemplate.execute(status -> {
+                List<Post> posts = chunk.stream()
+                        .map(index -> requests.get(index).toEntity())
+                        .toList();
+                postRepository.saveAll(posts);
+                entityManager.flush();
+                postChangeOutbox.recordCreated(posts);
+                entityManager.clear();
+                return posts;
+            });
+
+            for (int i = 0; i < chunk.size(); i++) {
+                Post post = saved.get(i);
+                results[chunk.get(i)] = BatchItemResult.created(chunk.get(i), post.getId());
+                postSearchIndex.index(post);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Batch chunk of {} posts rolled back", chunk.size(), e);
+            chunk.forEach(index -> results[index] = BatchItemResult.failed(index, CHUNK_FAILED_ERROR));
+        }
+    }
+
+    /**
+     * posts 테이블 제약조건 기준 입력값 검증
+     *
+     * @return 오류 메시지 (정상이면 null)
+     */
+    private static String validate(PostRequest request) {
+        if (request == null) {
+            return "request is null";
+        }
+        if (request.title() == null || request.title().isBlank()) {
+            return "title is required";
+        }
+        if (request.title().length() > PostRequest.TITLE_MAX_LENGTH) {
+            return "title must be at most " + PostRequest.TITLE_MAX_LENGTH + " characters";
+        }
+        if (request.content() == null || request.content().isBlank()) {
+            return "content is required";
+        }
+        if (request.author() == null || request.author().isBlank()) {
+            return "author is required";
+        }
+        if (request.author().length() > PostRequest.AUTHOR_MAX_LENGTH) {
+            return "author must be at most " + PostRequest.AUTHOR_MAX_LENGTH + " characters";
+        }
+        return null;
+    }
+}
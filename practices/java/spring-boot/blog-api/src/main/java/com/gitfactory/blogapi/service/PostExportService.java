@@ -0,0 +1,70 @@
+package com.gitfactory.blogapi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 전체 내보내기 서비스 (NDJSON)
+ *
+ * DB 커서로 한 건씩 읽어 바로 출력 스트림에 쓰고, 읽은 엔티티는 즉시 영속성 컨텍스트에서
+ * 분리하므로 게시글 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostExportService {
+
+    /** 출력 버퍼를 비우는 주기 (건수) */
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 게시글을 한 줄에 하나씩 JSON으로 출력
+     *
+     * @param outputStream 출력 스트림 (이 메서드는 스트림을 닫지 않음)
+     * @return 출력한 게시글 수
+     */
+    @Transactional(readOnly = true)
+    public long exportAsNdjson(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(PostResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+             Stream<Post> posts = postRepository.streamAll()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 값 사이 기본 구분자(공백) 대신 줄바꿈을 직접 출력
+            generator.setRootValueSeparator(null);
+
+            Iterator<Post> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                Post post = iterator.next();
+                writer.writeValue(generator, PostResponse.from(post));
+                generator.writeRaw('\n');
+                entityManager.detach(post);
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+}
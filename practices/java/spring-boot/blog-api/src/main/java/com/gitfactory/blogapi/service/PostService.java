@@ -1,24 +1,69 @@
 package com.gitfactory.blogapi.service;
 
+import com.gitfactory.blogapi.config.CacheConfig;
+import com.gitfactory.blogapi.dto.CursorPageResponse;
+import com.gitfactory.blogapi.dto.PostCursor;
+import com.gitfactory.blogapi.dto.PostPatchRequest;
 import com.gitfactory.blogapi.dto.PostRequest;
 import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
 import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.exception.ConflictingUpdateException;
+import com.gitfactory.blogapi.exception.InvalidRequestException;
+import com.gitfactory.blogapi.exception.PostNotFoundException;
+import com.gitfactory.blogapi.exception.PreconditionFailedException;
+import com.gitfactory.blogapi.outbox.PostChangeOutbox;
+import com.gitfactory.blogapi.outbox.PostChangeType;
 import com.gitfactory.blogapi.repository.PostRepository;
+import com.gitfactory.blogapi.repository.PostSummary;
+import com.gitfactory.blogapi.search.PostSearchIndex;
+import com.gitfactory.blogapi.search.SearchHits;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 게시글 비즈니스 로직을 처리하는 서비스
+ *
+ * 생성/수정/삭제는 같은 트랜잭션에서 변경 이벤트를 outbox에 기록합니다 (발행은 PostOutboxRelay).
+ * 수정/삭제한 게시글의 단건 캐시는 커밋 이후에 제거합니다. 제거와 동시에 진행 중이던 캐시 미스 로딩은
+ * 수정 전 값을 읽었을 수 있으므로 캐시(InvalidationSafeCaffeineCache)가 그 결과를 저장하지 않습니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
 
+    /** 커서 페이지 최대 크기 */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** version 충돌 시 수정 최대 시도 횟수 (첫 시도 포함) */
+    public static final int MAX_UPDATE_ATTEMPTS = 3;
+
     private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final TransactionOperations transactionOperations;
+    private final PostChangeOutbox postChangeOutbox;
+    private final CacheManager cacheManager;
 
     /**
      * 모든 게시글 조회
@@ -30,11 +75,73 @@ public class PostService {
     }
 
     /**
-     * ID로 게시글 조회
+     * 모든 게시글 요약 조회 (본문 제외)
      */
+    public List<PostSummaryResponse> getAllPostSummaries() {
+        return postRepository.findAllProjectedBy().stream()
+                .map(PostSummaryResponse::from)
+                .toList();
+    }
+
+    /**
+     * 커서 기반 게시글 페이지 조회 (최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ {@value #MAX_PAGE_SIZE} 범위로 보정)
+     */
+    public CursorPageResponse<PostResponse> getPostPage(String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<Post> posts;
+        if (isFirstPage(cursor)) {
+            posts = postRepository.findFirstPage(limit);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            posts = postRepository.findPageAfter(position.createdAt(), position.id(), limit);
+        }
+
+        return toCursorPage(posts, pageSize,
+                post -> new PostCursor(post.getCreatedAt(), post.getId()),
+                PostResponse::from);
+    }
+
+    /**
+     * 커서 기반 게시글 요약 페이지 조회 (최신순, 본문 제외)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ {@value #MAX_PAGE_SIZE} 범위로 보정)
+     */
+    public CursorPageResponse<PostSummaryResponse> getPostSummaryPage(String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<PostSummary> summaries;
+        if (isFirstPage(cursor)) {
+            summaries = postRepository.findSummaryFirstPage(limit);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            summaries = postRepository.findSummaryPageAfter(position.createdAt(), position.id(), limit);
+        }
+
+        return toCursorPage(summaries, pageSize,
+                summary -> new PostCursor(summary.getCreatedAt(), summary.getId()),
+                PostSummaryResponse::from);
+    }
+
+    /**
+     * ID로 게시글 조회 (캐시 우선, 미스 시 DB 조회 후 캐시에 저장)
+     *
+     * sync = true: 캐시가 로딩 중 무효화 여부를 확인할 수 있도록 get(key, valueLoader)로 조회합니다.
+     * 캐시를 채우는 조회라서 replica가 아닌 primary에서 읽습니다 (readOnly = false).
+     * 수정 직후 evict된 항목을 아직 복제되지 않은 replica에서 읽으면 수정 전 값이 TTL 동안 캐시에 남기 때문입니다.
+     */
+    @Cacheable(cacheNames = CacheConfig.POSTS_CACHE, key = "#id", sync = true)
+    @Transactional
     public PostResponse getPostById(Long id) {
         Post post = postRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Post not found with id: " + id));
+                .orElseThrow(() -> new PostNotFoundException(id));
         return PostResponse.from(post);
     }
 
@@ -45,47 +152,195 @@ public class PostService {
     public PostResponse createPost(PostRequest request) {
         // ✨ request.toEntity() 사용
         Post post = request.toEntity();
-        Post savedPost = postRepository.save(post);
+        // INSERT를 먼저 실행해서 outbox 기록이 게시글 행 변경 이후가 되도록 (PostChangeOutbox)
+        Post savedPost = postRepository.saveAndFlush(post);
+        postChangeOutbox.record(savedPost.getId(), PostChangeType.CREATED, savedPost.getVersion());
+        afterCommit(() -> postSearchIndex.index(savedPost));
         return PostResponse.from(savedPost);
     }
 
     /**
      * 게시글 수정
+     *
+     * 수정 중 다른 요청이 먼저 커밋하면(version 불일치) 새 트랜잭션에서 최대
+     * {@value #MAX_UPDATE_ATTEMPTS}회까지 다시 시도합니다. 재시도는 처음 읽은 값을 기준으로
+     * 이번 요청이 바꾼 필드만 최신 행에 적용하며, 다른 요청이 같은 필드를 바꿨으면
+     * 덮어쓰지 않고 충돌(409)로 실패합니다 (마지막 요청이 조용히 이기지 않도록).
+     *
+     * @throws OptimisticLockingFailureException 같은 필드를 동시에 수정했거나 재시도 횟수를 모두 소진한 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse updatePost(Long id, PostRequest request) {
+        return updateWithRetry(id, request, null);
+    }
+
+    /**
+     * 게시글 조건부 수정 (If-Match)
+     *
+     * 클라이언트가 버전을 지정한 경우에는 재시도하지 않고 바로 실패합니다.
+     *
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 조건 없음, 충돌 시 재시도)
+     * @throws PreconditionFailedException 그 사이 다른 요청이 수정한 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostResponse updatePost(Long id, PostRequest request, Long expectedVersion) {
+        return updateWithRetry(id, request, expectedVersion);
+    }
+
+    private PostResponse updateWithRetry(Long id, PostRequest request, Long expectedVersion) {
+        // 첫 시도에서 읽은 값 (재시도 시 그 사이 다른 요청이 바꾼 필드를 구분하는 기준)
+        AtomicReference<PostFields> base = new AtomicReference<>();
+        return executeWithRetry(id, expectedVersion, status -> applyUpdate(id, request, expectedVersion, base));
+    }
+
+    /**
+     * version 충돌 시 새 트랜잭션에서 최대 {@value #MAX_UPDATE_ATTEMPTS}회까지 실행
+     * (조건부 요청이면 재시도하지 않고 412)
+     */
+    private <T> T executeWithRetry(Long id, Long expectedVersion, TransactionCallback<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionOperations.execute(action);
+            } catch (ConflictingUpdateException e) {
+                throw e;
+            } catch (OptimisticLockingFailureException e) {
+                if (expectedVersion != null) {
+                    throw new PreconditionFailedException(id);
+                }
+                if (attempt >= MAX_UPDATE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict on post {} (attempt {}), retrying", id, attempt);
+            }
+        }
+    }
+
+    private PostResponse applyUpdate(Long id, PostRequest request, Long expectedVersion,
+                                     AtomicReference<PostFields> base) {
         Post post = postRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Post not found with id: " + id));
+                .orElseThrow(() -> new PostNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(post.getVersion())) {
+            throw new PreconditionFailedException(id);
+        }
 
-        // ✨ record 접근자 사용: title(), content(), author()
-        post.update(
-                request.title(),
-                request.content(),
-                request.author()
-        );
+        PostFields current = PostFields.of(post);
+        PostFields target = new PostFields(request.title(), request.content(), request.author());
+        if (!base.compareAndSet(null, current)) {
+            // 재시도: 그 사이 다른 요청이 바꾼 필드는 유지하고 이번 요청이 바꾼 필드만 적용
+            target = base.get().merge(current, target, id);
+        }
 
+        post.update(target.title(), target.content(), target.author());
+        // version 충돌을 이 트랜잭션 안에서 감지하고, 응답(ETag 포함)에 갱신된 version이 반영되도록 flush
+        postRepository.flush();
+        postChangeOutbox.record(id, PostChangeType.UPDATED, post.getVersion());
+
+        evictAfterCommit(id);
+        afterCommit(() -> postSearchIndex.index(post));
         return PostResponse.from(post);
     }
 
     /**
-     * 게시글 삭제
+     * 게시글 부분 수정 (전달한 필드만 반영)
+     *
+     * 엔티티를 읽어(2차 캐시 히트 시 SQL 없음) 바뀐 컬럼만 UPDATE 하므로 2차 캐시에서는 이 게시글만 갱신되고
+     * 다른 게시글의 캐시 항목은 그대로 남습니다. 동시 수정으로 version이 충돌하면 최신 행에 다시 적용합니다
+     * (최대 {@value #MAX_UPDATE_ATTEMPTS}회).
+     *
+     * @throws InvalidRequestException 수정할 필드가 없는 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void patchPost(Long id, PostPatchRequest request) {
+        patchPost(id, request, null);
+    }
+
+    /**
+     * 게시글 조건부 부분 수정 (If-Match)
+     *
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 조건 없음, 충돌 시 재시도)
+     * @throws PreconditionFailedException 그 사이 다른 요청이 수정한 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void patchPost(Long id, PostPatchRequest request, Long expectedVersion) {
+        if (request.isEmpty()) {
+            throw new InvalidRequestException("At least one of title, content, author is required");
+        }
+        executeWithRetry(id, expectedVersion, status -> applyPatch(id, request, expectedVersion));
+    }
+
+    private Void applyPatch(Long id, PostPatchRequest request, Long expectedVersion) {
+        Post post = postRepository.findById(id)
+                .orElseThrow(() -> new PostNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(post.getVersion())) {
+            throw new PreconditionFailedException(id);
+        }
+
+        post.patch(request.title(), request.content(), request.author());
+        postRepository.flush();
+        postChangeOutbox.record(id, PostChangeType.UPDATED, post.getVersion());
+        evictAfterCommit(id);
+
+        if (request.title() != null || request.content() != null) {
+            afterCommit(() -> postSearchIndex.update(id, request.title(), request.content()));
+        }
+        return null;
+    }
+
+    /**
+     * 게시글 삭제 (DELETE 1회, 삭제된 행이 없으면 404)
+     *
+     * 벌크 DELETE라서 2차 캐시의 post 영역 전체가 비워집니다 (PostRepository.deletePostById 참고).
      */
     @Transactional
     public void deletePost(Long id) {
-        if (!postRepository.existsById(id)) {
-            throw new RuntimeException("Post not found with id: " + id);
+        deletePost(id, null);
+    }
+
+    /**
+     * 게시글 조건부 삭제 (If-Match)
+     *
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 조건 없음)
+     * @throws PreconditionFailedException 그 사이 다른 요청이 수정한 경우
+     */
+    @Transactional
+    public void deletePost(Long id, Long expectedVersion) {
+        if (postRepository.deletePostById(id, expectedVersion) == 0) {
+            throw notFoundOrModified(id, expectedVersion);
         }
-        postRepository.deleteById(id);
+        postChangeOutbox.record(id, PostChangeType.DELETED, null);
+        evictAfterCommit(id);
+        afterCommit(() -> postSearchIndex.remove(id));
     }
 
     /**
-     * 제목으로 게시글 검색
+     * 제목/본문 전문 검색 (관련도순)
+     *
+     * @param keyword 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1 ~ {@value #MAX_PAGE_SIZE} 범위로 보정)
      */
-    public List<PostResponse> searchByTitle(String keyword) {
-        // ✨ findByTitleContaining 사용 (IgnoreCase 제거)
-        return postRepository.findByTitleContaining(keyword).stream()
-                .map(PostResponse::from)
-                .toList();
+    public List<PostResponse> search(String keyword, int page, int size) {
+        List<Long> ids = searchIds(keyword, page, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return orderByIds(ids, postRepository.findAllById(ids), Post::getId, PostResponse::from);
+    }
+
+    /**
+     * 제목/본문 전문 검색 (관련도순, 본문 제외)
+     *
+     * @param keyword 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1 ~ {@value #MAX_PAGE_SIZE} 범위로 보정)
+     */
+    public List<PostSummaryResponse> searchSummaries(String keyword, int page, int size) {
+        List<Long> ids = searchIds(keyword, page, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return orderByIds(ids, postRepository.findSummariesByIdIn(ids),
+                PostSummary::getId, PostSummaryResponse::from);
     }
 
     /**
@@ -96,4 +351,177 @@ public class PostService {
                 .map(PostResponse::from)
                 .toList();
     }
+
+    /**
+     * 작성자로 게시글 요약 검색 (본문 제외)
+     */
+    public List<PostSummaryResponse> getPostSummariesByAuthor(String author) {
+        return postRepository.findSummariesByAuthor(author).stream()
+                .map(PostSummaryResponse::from)
+                .toList();
+    }
+
+    /**
+     * 작성자의 커서 기반 게시글 페이지 조회 (최신순)
+     *
+     * @param author 작성자명
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ {@value #MAX_PAGE_SIZE} 범위로 보정)
+     */
+    public CursorPageResponse<PostResponse> getPostPageByAuthor(String author, String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<Post> posts;
+        if (isFirstPage(cursor)) {
+            posts = postRepository.findByAuthorFirstPage(author, limit);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            posts = postRepository.findByAuthorPageAfter(author, position.createdAt(), position.id(), limit);
+        }
+
+        return toCursorPage(posts, pageSize,
+                post -> new PostCursor(post.getCreatedAt(), post.getId()),
+                PostResponse::from);
+    }
+
+    /**
+     * 작성자의 커서 기반 게시글 요약 페이지 조회 (최신순, 본문 제외)
+     *
+     * @param author 작성자명
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ {@value #MAX_PAGE_SIZE} 범위로 보정)
+     */
+    public CursorPageResponse<PostSummaryResponse> getPostSummaryPageByAuthor(String author, String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<PostSummary> summaries;
+        if (isFirstPage(cursor)) {
+            summaries = postRepository.findSummariesByAuthorFirstPage(author, limit);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            summaries = postRepository.findSummariesByAuthorPageAfter(
+                    author, position.createdAt(), position.id(), limit);
+        }
+
+        return toCursorPage(summaries, pageSize,
+                summary -> new PostCursor(summary.getCreatedAt(), summary.getId()),
+                PostSummaryResponse::from);
+    }
+
+    private List<Long> searchIds(String keyword, int page, int size) {
+        SearchHits hits = postSearchIndex.search(keyword, Math.max(page, 0), normalizePageSize(size));
+        return hits.postIds();
+    }
+
+    /**
+     * 검색 인덱스가 반환한 관련도 순서대로 조회 결과를 재정렬
+     * (인덱스 반영 직후 삭제된 게시글은 제외)
+     */
+    static <S, T> List<T> orderByIds(List<Long> ids, List<S> rows,
+                                     Function<S, Long> idOf, Function<S, T> mapper) {
+        Map<Long, S> byId = rows.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(mapper)
+                .toList();
+    }
+
+    /**
+     * 조건부 쓰기가 0건일 때 원인 구분 (실패한 경우에만 추가 조회)
+     */
+    private RuntimeException notFoundOrModified(Long id, Long expectedVersion) {
+        if (expectedVersion != null && postRepository.existsById(id)) {
+            return new PreconditionFailedException(id);
+        }
+        return new PostNotFoundException(id);
+    }
+
+    /**
+     * 커밋 이후 단건 캐시에서 제거 (커밋 전에 제거하면 그 사이 조회가 수정 전 값을 다시 채움)
+     */
+    private void evictAfterCommit(Long id) {
+        afterCommit(() -> {
+            Cache cache = cacheManager.getCache(CacheConfig.POSTS_CACHE);
+            if (cache != null) {
+                cache.evict(id);
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 실행 (롤백된 변경이 인덱스에 반영되지 않도록)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * PUT으로 덮어쓰는 게시글 필드 (재시도 시 동시 수정 필드 비교용)
+     */
+    private record PostFields(String title, String content, String author) {
+
+        static PostFields of(Post post) {
+            return new PostFields(post.getTitle(), post.getContent(), post.getAuthor());
+        }
+
+        /**
+         * 이 값(base) 이후 다른 요청이 바꾼 필드는 최신 값을, 이번 요청이 바꾼 필드는 요청 값을 사용
+         *
+         * @throws ConflictingUpdateException 같은 필드를 양쪽에서 서로 다른 값으로 바꾼 경우
+         */
+        PostFields merge(PostFields latest, PostFields requested, Long id) {
+            return new PostFields(
+                    mergeField(title, latest.title, requested.title, id),
+                    mergeField(content, latest.content, requested.content, id),
+                    mergeField(author, latest.author, requested.author, id)
+            );
+        }
+
+        private static String mergeField(String base, String latest, String requested, Long id) {
+            if (Objects.equals(base, latest)) {
+                return requested;
+            }
+            if (Objects.equals(base, requested) || Objects.equals(latest, requested)) {
+                return latest;
+            }
+            throw new ConflictingUpdateException(id);
+        }
+    }
+
+    static int normalizePageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    static boolean isFirstPage(String cursor) {
+        return cursor == null || cursor.isBlank();
+    }
+
+    /**
+     * pageSize + 1 건으로 조회한 결과를 페이지 응답으로 변환
+     */
+    static <S, T> CursorPageResponse<T> toCursorPage(List<S> rows, int pageSize,
+                                                     Function<S, PostCursor> cursorOf,
+                                                     Function<S, T> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<S> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return new CursorPageResponse<>(
+                page.stream().map(mapper).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.gitfactory.blogapi.viewcount;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글별 조회수 증가분(아직 DB에 반영되지 않은 값) 버퍼
+ *
+ * 조회 요청마다 UPDATE를 실행하면 인기 게시글의 행 잠금에서 요청이 직렬화되므로,
+ * 증가분은 게시글별 LongAdder에 모아두고 ViewCountFlusher가 주기적으로 한 번에 반영합니다.
+ * LongAdder는 경합 시 셀을 나눠서 더하므로 같은 게시글에 대한 동시 증가도 잠금 없이 처리됩니다.
+ *
+ * 반영 전 증가분은 메모리에만 있으므로, 프로세스가 비정상 종료되면
+ * 마지막 flush 이후 증가분(최대 flush 주기만큼)이 유실됩니다.
+ *
+ * 한 주기 동안 증가가 없던 게시글은 drain에서 제거해서, 버퍼가 한 번이라도 조회된 모든 게시글로 커지지 않도록 합니다.
+ */
+@Component
+public class ViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    /**
+     * 직전 drain에서 제거한 adder (drainLock으로 보호)
+     * 제거 직전에 adder를 가져간 증가가 제거 후에 더해질 수 있으므로, 다음 drain에서 한 번 더 꺼낸 뒤 버립니다.
+     */
+    private Map<Long, LongAdder> retired = Map.of();
+
+    /**
+     * 조회수 1 증가
+     *
+     * @return 아직 DB에 반영되지 않은 이 게시글의 증가분 (이번 증가 포함)
+     */
+    public long increment(Long postId) {
+        LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        adder.increment();
+        return adder.sum();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분
+     */
+    public long pending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 반영할 증가분을 꺼내고 0으로 초기화 (증가분이 있는 게시글만, ID 순)
+     *
+     * 꺼내는 도중 들어온 증가는 이번 결과나 다음 결과 중 한쪽에만 포함됩니다.
+     * ID 순으로 반환해서 여러 인스턴스가 동시에 반영해도 행 잠금 순서가 같도록 합니다.
+     * 증가분이 없던(직전 drain 이후 증가가 없던) 게시글은 버퍼에서 제거합니다.
+     */
+    public Map<Long, Long> drain() {
+        drainLock.lock();
+        try {
+            Map<Long, Long> deltas = new TreeMap<>();
+            retired.forEach((postId, adder) -> addDelta(deltas, postId, adder.sumThenReset()));
+
+            Map<Long, LongAdder> idle = new HashMap<>();
+            pending.forEach((postId, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta > 0) {
+                    addDelta(deltas, postId, delta);
+                } else if (pending.remove(postId, adder)) {
+                    idle.put(postId, adder);
+                }
+            });
+            retired = idle;
+            return deltas;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private static void addDelta(Map<Long, Long> deltas, Long postId, long delta) {
+        if (delta > 0) {
+            deltas.merge(postId, delta, Long::sum);
+        }
+    }
+
+    /**
+     * 반영에 실패한 증가분을 되돌림 (다음 flush에서 다시 시도)
+     */
+    public void restore(Long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 삭제된 게시글의 버퍼 제거
+     */
+    public void remove(Long postId) {
+        pending.remove(postId);
+    }
+
+    /**
+     * 버퍼에 있는 게시글 수 (메트릭용)
+     */
+    public int size() {
+        return pending.size();
+    }
+}
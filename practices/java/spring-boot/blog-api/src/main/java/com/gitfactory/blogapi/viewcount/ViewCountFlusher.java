@@ -0,0 +1,178 @@
+package com.gitfactory.blogapi.viewcount;
+
+import com.gitfactory.blogapi.config.CacheConfig;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 write-behind 반영
+ *
+ * ViewCountBuffer에 모인 증가분을 주기적으로(blog.view-count.flush-interval-ms) 꺼내서
+ * "view_count = view_count + ?" UPDATE를 JDBC 배치 하나로 반영합니다.
+ * 게시글당 flush 주기마다 최대 1회만 쓰므로, 조회 요청 수와 무관하게 DB 쓰기 양이 일정합니다.
+ *
+ * - 반영에 실패하면 증가분을 버퍼로 되돌려 다음 주기에 다시 시도합니다.
+ * - 정상 종료 시에는 마지막으로 한 번 더 반영합니다. 비정상 종료 시에는 최대 flush 주기만큼의 증가분이 유실됩니다.
+ * - 반영한 증가분은 단건 캐시(posts)에 있는 응답의 조회수에 그대로 더합니다.
+ *   flush마다 제거하면 가장 많이 조회되는 게시글이 매 주기 캐시 미스가 되기 때문입니다.
+ * - Hibernate 2차 캐시는 JDBC UPDATE를 알지 못하고 version이 같으면 덮어쓰지 않으므로,
+ *   캐시에 있던 게시글만 제거한 뒤 한 번의 IN 조회로 다시 적재합니다.
+ */
+@Slf4j
+@Component
+public class ViewCountFlusher {
+
+    private static final String UPDATE_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final PostRepository postRepository;
+    private final jakarta.persistence.Cache entityCache;
+    private final Counter flushedCounter;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ViewCountFlusher(ViewCountBuffer viewCountBuffer,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            CacheManager cacheManager,
+                            PostRepository postRepository,
+                            EntityManagerFactory entityManagerFactory,
+                            MeterRegistry meterRegistry) {
+        this.viewCountBuffer = viewCountBuffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.postRepository = postRepository;
+        this.entityCache = entityManagerFactory.getCache();
+        this.flushedCounter = Counter.builder("blog.view-count.flushed")
+                .description("View count increments written to the database")
+                .register(meterRegistry);
+        Gauge.builder("blog.view-count.buffered.posts", viewCountBuffer, ViewCountBuffer::size)
+                .description("Posts with view count increments held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 버퍼의 증가분을 DB에 반영
+     *
+     * @return 반영한 게시글 수
+     */
+    @Scheduled(fixedDelayString = "${blog.view-count.flush-interval-ms:1000}")
+    public int flush() {
+        // 스케줄러와 종료 시 flush가 겹치지 않도록 (가상 스레드 pinning을 피하기 위해 synchronized 대신 Lock 사용)
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = viewCountBuffer.drain();
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+            int[][] results;
+            try {
+                results = transactionTemplate.execute(status ->
+                        jdbcTemplate.batchUpdate(UPDATE_SQL, entries, BATCH_SIZE, (ps, entry) -> {
+                            ps.setLong(1, entry.getValue());
+                            ps.setLong(2, entry.getKey());
+                        }));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Failed to flush view counts of {} posts, retrying on next run", entries.size(), e);
+                deltas.forEach(viewCountBuffer::restore);
+                return 0;
+            }
+
+            List<Map.Entry<Long, Long>> flushedEntries = new ArrayList<>();
+            int index = 0;
+            for (int[] batch : results) {
+                for (int updated : batch) {
+                    Map.Entry<Long, Long> entry = entries.get(index++);
+                    if (updated == 0) {
+                        // 그 사이 삭제된 게시글
+                        viewCountBuffer.remove(entry.getKey());
+                    } else {
+                        flushedEntries.add(entry);
+                    }
+                }
+            }
+
+            // 2차 캐시를 먼저 갱신해서, 아래에서 단건 캐시가 비어 있어 새로 로딩하는 조회도 반영된 값을 읽도록 함
+            reloadEntityCache(flushedEntries.stream().map(Map.Entry::getKey).toList());
+            Cache cache = cacheManager.getCache(CacheConfig.POSTS_CACHE);
+            long flushed = 0;
+            for (Map.Entry<Long, Long> entry : flushedEntries) {
+                flushed += entry.getValue();
+                if (cache != null) {
+                    addToCachedViewCount(cache, entry.getKey(), entry.getValue());
+                }
+            }
+            flushedCounter.increment(flushed);
+            log.debug("Flushed {} view count increments of {} posts", flushed, flushedEntries.size());
+            return flushedEntries.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 캐시된 응답의 조회수에 증가분을 더함
+     *
+     * 캐시에 없으면 evict해서, 반영 전 값을 읽고 있던 캐시 미스 로딩의 결과가 저장되지 않게 합니다
+     * (InvalidationSafeCaffeineCache).
+     */
+    private static void addToCachedViewCount(Cache cache, Long postId, long delta) {
+        if (cache instanceof CaffeineCache caffeineCache
+                && caffeineCache.getNativeCache().asMap().computeIfPresent(postId, (id, value) ->
+                        value instanceof PostResponse post ? post.withViewCount(post.viewCount() + delta) : value) != null) {
+            return;
+        }
+        cache.evict(postId);
+    }
+
+    /**
+     * 2차 캐시에 있던 게시글을 제거하고 한 번의 조회로 다시 적재
+     * (실패하면 제거된 상태로 두고 다음 조회 시 DB에서 적재)
+     */
+    private void reloadEntityCache(List<Long> postIds) {
+        List<Long> cached = postIds.stream()
+                .filter(id -> entityCache.contains(Post.class, id))
+                .toList();
+        if (cached.isEmpty()) {
+            return;
+        }
+        cached.forEach(id -> entityCache.evict(Post.class, id));
+        try {
+            transactionTemplate.executeWithoutResult(status -> postRepository.findAllById(cached));
+        } catch (DataAccessException | TransactionException e) {
+            log.debug("Failed to reload {} posts into the second-level cache", cached.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,14 @@
+-- 게시글 테이블 (Post 엔티티)
+CREATE SEQUENCE posts_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE posts (
+    id         BIGINT       NOT NULL,
+    title      VARCHAR(200) NOT NULL,
+    content    TEXT         NOT NULL,
+    author     VARCHAR(50)  NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    view_count BIGINT       DEFAULT 0 NOT NULL,
+    version    BIGINT       DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_posts PRIMARY KEY (id)
+);
@@ -0,0 +1,5 @@
+-- 최신순 목록/커서 페이지 (ORDER BY created_at DESC, id DESC)
+CREATE INDEX idx_posts_created_at ON posts (created_at, id);
+
+-- 작성자 조회 + 최신순 정렬 (author 단독 조회도 선두 컬럼으로 이 인덱스를 사용)
+CREATE INDEX idx_posts_author_created_at ON posts (author, created_at, id);
@@ -0,0 +1,9 @@
+-- 게시글 변경 이벤트 outbox (게시글 변경과 같은 트랜잭션에서 INSERT, PostOutboxRelay가 발행 후 DELETE)
+CREATE TABLE post_outbox (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    post_id     BIGINT       NOT NULL,
+    event_type  VARCHAR(20)  NOT NULL,
+    version     BIGINT,
+    created_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_post_outbox PRIMARY KEY (id)
+);
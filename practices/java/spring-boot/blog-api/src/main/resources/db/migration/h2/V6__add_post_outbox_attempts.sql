@@ -0,0 +1,3 @@
+-- 발행 실패 횟수와 보류(parked) 상태: max-attempts번 실패한 이벤트는 보류해서 뒤의 이벤트를 막지 않음
+ALTER TABLE post_outbox ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE post_outbox ADD COLUMN parked BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,4 @@
+-- 조회수/버전 컬럼 보충
+-- Hibernate(ddl-auto=update)로 만든 기존 스키마는 V1을 기준선으로 건너뛰므로 이후 추가된 컬럼이 없을 수 있음
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS view_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,14 @@
+-- 게시글 테이블 (Post 엔티티)
+CREATE SEQUENCE IF NOT EXISTS posts_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS posts (
+    id         BIGINT       NOT NULL,
+    title      VARCHAR(200) NOT NULL,
+    content    TEXT         NOT NULL,
+    author     VARCHAR(50)  NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    view_count BIGINT       NOT NULL DEFAULT 0,
+    version    BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_posts PRIMARY KEY (id)
+);
@@ -0,0 +1,8 @@
+-- 운영 중인 테이블에 쓰기 잠금 없이 만들도록 CONCURRENTLY 사용
+-- (트랜잭션 안에서 실행할 수 없으므로 V2__create_posts_indexes.sql.conf에서 트랜잭션을 끔)
+
+-- 최신순 목록/커서 페이지 (ORDER BY created_at DESC, id DESC는 인덱스를 역방향으로 스캔)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_created_at ON posts (created_at, id);
+
+-- 작성자 조회 + 최신순 정렬 (author 단독 조회도 선두 컬럼으로 이 인덱스를 사용)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_author_created_at ON posts (author, created_at, id);
@@ -0,0 +1,10 @@
+-- 게시글 변경 이벤트 outbox (게시글 변경과 같은 트랜잭션에서 INSERT, PostOutboxRelay가 발행 후 DELETE)
+-- 발행된 행은 바로 삭제하므로 테이블은 미발행 이벤트만큼만 유지되고, 릴레이는 PK 순서로 읽음
+CREATE TABLE IF NOT EXISTS post_outbox (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    post_id     BIGINT       NOT NULL,
+    event_type  VARCHAR(20)  NOT NULL,
+    version     BIGINT,
+    created_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_post_outbox PRIMARY KEY (id)
+);
@@ -0,0 +1,8 @@
+-- 제목/본문 전문 검색용 GIN 표현식 인덱스 (blog.search.engine=postgres, PostgresPostSearchIndex)
+-- 검색 쿼리의 문서 표현식과 글자 단위로 같아야 인덱스를 탐
+-- 운영 중인 테이블에 쓰기 잠금 없이 만들도록 CONCURRENTLY 사용 (V4__create_posts_fulltext_index.sql.conf에서 트랜잭션을 끔)
+-- (H2는 tsvector를 지원하지 않으므로 h2 디렉토리에는 대응하는 마이그레이션이 없음)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_fulltext ON posts USING GIN (
+    (setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+     || setweight(to_tsvector('simple', coalesce(content, '')), 'B'))
+);
@@ -0,0 +1,9 @@
+-- posts_seq를 기존 게시글 ID 이후로 맞춤
+-- Hibernate(ddl-auto=update, IDENTITY)로 만든 기존 스키마는 V1을 기준선으로 건너뛰므로 시퀀스가 없거나 1부터 시작함
+-- Post는 pooled optimizer(allocationSize = 50)라 nextval 값 N에 대해 (N - 49) ~ N 구간을 ID로 사용하므로,
+-- 다음 nextval이 MAX(id) + 50이 되도록 설정해서 첫 구간이 MAX(id) + 1부터 시작하게 함
+-- (이미 사용 중인 시퀀스라면 마지막으로 발급한 구간 이후로만 이동하고 되돌리지 않음)
+CREATE SEQUENCE IF NOT EXISTS posts_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('posts_seq', GREATEST(COALESCE(MAX(id), 0), (SELECT last_value FROM posts_seq)) + 50, false)
+FROM posts;
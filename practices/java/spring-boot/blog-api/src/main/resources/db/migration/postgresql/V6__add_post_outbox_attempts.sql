@@ -0,0 +1,4 @@
+-- 발행 실패 횟수와 보류(parked) 상태: max-attempts번 실패한 이벤트는 보류해서 뒤의 이벤트를 막지 않음
+-- 보류된 행은 릴레이가 읽지 않고 남겨두며, 원인을 해결한 뒤 parked = FALSE로 되돌리면 다시 발행됨
+ALTER TABLE post_outbox ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE post_outbox ADD COLUMN IF NOT EXISTS parked BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,14 @@
+-- 부분 일치 검색용 pg_trgm GIN 인덱스 (blog.search.engine=postgres, PostgresPostSearchIndex)
+-- to_tsvector('simple')는 공백으로 나눈 어절 단위로만 일치하므로 조사가 붙은 한글 어절("스프링을")을 "스프링"으로 찾지 못함
+-- → 검색어의 단어마다 ILIKE '%단어%'로 찾고, 이 인덱스로 후보 행을 좁힘 (검색 쿼리의 표현식과 글자 단위로 같아야 인덱스를 탐)
+-- 3글자 미만 단어나 로캘이 C인 DB의 한글은 trigram이 만들어지지 않아 인덱스로 좁히지 못함 (결과는 같고 느려짐)
+-- pg_trgm 확장을 만들 권한이 없으면 DBA가 미리 CREATE EXTENSION pg_trgm을 실행해야 함
+-- 운영 중인 테이블에 쓰기 잠금 없이 만들도록 CONCURRENTLY 사용 (V8__create_posts_trigram_index.sql.conf에서 트랜잭션을 끔)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_search_trgm ON posts USING GIN (
+    (coalesce(title, '') || ' ' || coalesce(content, '')) gin_trgm_ops
+);
+
+-- V4의 tsvector 인덱스는 더 이상 검색 조건에 쓰이지 않음 (관련도 계산은 일치한 행에서만 하므로 인덱스 불필요)
+DROP INDEX CONCURRENTLY IF EXISTS idx_posts_fulltext;
@@ -0,0 +1,40 @@
+package com.gitfactory.blogapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * reactive 프로필 설정 (WebFlux + R2DBC)
+ *
+ * reactive 프로필 코드(src/reactive)와 WebFlux/R2DBC 의존성은 -Preactive로 빌드할 때만 포함됩니다.
+ *
+ * - 서블릿 스택(Tomcat)도 클래스패스에 있으므로 Netty 서버를 명시적으로 사용
+ * - R2DBC ConnectionFactory가 있으면 DataSource 자동 설정이 비활성화되므로,
+ *   JDBC 기반 빈(PostgreSQL 검색 인덱스 등)이 사용할 DataSource를 직접 등록
+ */
+@Configuration
+@Profile("reactive")
+@ImportRuntimeHints(ReactiveRuntimeHints.class)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.gitfactory.blogapi.config;
+
+import com.gitfactory.blogapi.entity.PostRow;
+import com.gitfactory.blogapi.repository.PostSummaryRow;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * reactive 프로필 네이티브 이미지(-Preactive -Pnative)용 런타임 힌트
+ *
+ * - R2DBC 결과 레코드: 생성자로 매핑
+ */
+public class ReactiveRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(PostRow.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.DECLARED_FIELDS)
+                .registerType(PostSummaryRow.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.DECLARED_FIELDS);
+    }
+}
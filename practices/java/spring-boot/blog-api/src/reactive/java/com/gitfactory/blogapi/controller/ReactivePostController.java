@@ -0,0 +1,103 @@
+package com.gitfactory.blogapi.controller;
+
+import com.gitfactory.blogapi.dto.CursorPageResponse;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.service.ReactivePostService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게시글 조회 전용 Reactive REST API 컨트롤러 (reactive 프로필, WebFlux)
+ *
+ * PostController의 조회 API와 같은 경로/파라미터/응답 형식을 제공합니다.
+ * 목록/검색 API는 Accept: application/x-ndjson으로 요청하면 한 줄에 한 건씩 스트리밍되며,
+ * 클라이언트가 읽는 속도에 맞춰 DB에서 행을 가져옵니다 (back-pressure).
+ */
+@Tag(name = "게시글 API (Reactive)", description = "게시글 조회 API (reactive 프로필)")
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "/api/posts",
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+@RequiredArgsConstructor
+public class ReactivePostController {
+
+    private static final String FIELDS_FULL = "full";
+
+    private final ReactivePostService reactivePostService;
+
+    @GetMapping
+    public Flux<?> getAllPosts(@RequestParam(required = false) String fields) {
+        if (isFull(fields)) {
+            return reactivePostService.getAllPosts();
+        }
+        return reactivePostService.getAllPostSummaries();
+    }
+
+    /**
+     * 커서 기반 페이지 조회 (size 파라미터가 있으면 이 모드로 동작)
+     */
+    @GetMapping(params = "size")
+    public Mono<? extends CursorPageResponse<?>> getPostPage(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields
+    ) {
+        if (isFull(fields)) {
+            return reactivePostService.getPostPage(cursor, size);
+        }
+        return reactivePostService.getPostSummaryPage(cursor, size);
+    }
+
+    /**
+     * 게시글 상세 조회 (ETag/Last-Modified 일치 시 본문 없이 304)
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<PostResponse>> getPostById(@PathVariable Long id) {
+        return reactivePostService.getPostById(id)
+                .map(post -> ResponseEntity.ok()
+                        .eTag(PostETags.of(post))
+                        .lastModified(PostETags.lastModified(post))
+                        .body(post));
+    }
+
+    /**
+     * 제목/본문 전문 검색 (관련도순)
+     */
+    @GetMapping("/search")
+    public Flux<?> searchPosts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields
+    ) {
+        if (isFull(fields)) {
+            return reactivePostService.search(keyword, page, size);
+        }
+        return reactivePostService.searchSummaries(keyword, page, size);
+    }
+
+    @GetMapping("/author/{author}")
+    public Flux<?> getPostsByAuthor(
+            @PathVariable String author,
+            @RequestParam(required = false) String fields
+    ) {
+        if (isFull(fields)) {
+            return reactivePostService.getPostsByAuthor(author);
+        }
+        return reactivePostService.getPostSummariesByAuthor(author);
+    }
+
+    private static boolean isFull(String fields) {
+        return FIELDS_FULL.equalsIgnoreCase(fields);
+    }
+}
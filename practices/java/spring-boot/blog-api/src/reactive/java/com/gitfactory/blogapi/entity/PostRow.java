@@ -0,0 +1,34 @@
+package com.gitfactory.blogapi.entity;
+
+import com.gitfactory.blogapi.dto.PostResponse;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * posts 테이블의 R2DBC 매핑 (reactive 프로필 전용, 읽기 전용)
+ *
+ * 스키마는 JPA 엔티티 {@link Post}와 동일한 테이블을 사용합니다.
+ * 쓰기는 기존 JPA 경로에서만 수행하므로 감사(auditing) 필드도 조회만 합니다.
+ */
+@Table("posts")
+public record PostRow(
+        @Id Long id,
+        String title,
+        String content,
+        String author,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long viewCount,
+        Long version
+) {
+    /**
+     * PostResponse DTO로 변환
+     *
+     * @return PostResponse DTO
+     */
+    public PostResponse toResponse() {
+        return new PostResponse(id, title, content, author, createdAt, updatedAt, viewCount, version);
+    }
+}
@@ -0,0 +1,28 @@
+package com.gitfactory.blogapi.repository;
+
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC 목록 조회용 요약 행 (본문 제외)
+ *
+ * {@link PostSummary}의 reactive 버전으로, ReactivePostRepository의 @Query 결과를 매핑합니다.
+ */
+public record PostSummaryRow(
+        Long id,
+        String title,
+        String author,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+) {
+    /**
+     * PostSummaryResponse DTO로 변환
+     *
+     * @return PostSummaryResponse DTO
+     */
+    public PostSummaryResponse toResponse() {
+        return new PostSummaryResponse(id, title, author, createdAt, updatedAt, version);
+    }
+}
@@ -0,0 +1,88 @@
+package com.gitfactory.blogapi.repository;
+
+import com.gitfactory.blogapi.entity.PostRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 게시글 Reactive Repository (R2DBC, reactive 프로필 전용)
+ *
+ * PostRepository(JPA)와 같은 posts 테이블을 논블로킹으로 조회합니다.
+ * 반환된 Flux는 구독자의 요청량(demand)만큼 행을 가져옵니다.
+ */
+public interface ReactivePostRepository extends ReactiveCrudRepository<PostRow, Long>,
+        ReactiveSortingRepository<PostRow, Long> {
+
+    /**
+     * 전체 게시글 요약 조회 (본문 제외)
+     */
+    @Query("SELECT id, title, author, created_at, updated_at, version FROM posts ORDER BY id")
+    Flux<PostSummaryRow> findAllSummaries();
+
+    /**
+     * ID 목록으로 게시글 요약 조회 (순서 보장 없음)
+     */
+    @Query("SELECT id, title, author, created_at, updated_at, version FROM posts WHERE id IN (:ids)")
+    Flux<PostSummaryRow> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 작성자로 게시글 검색
+     */
+    Flux<PostRow> findByAuthor(String author);
+
+    /**
+     * 작성자로 게시글 요약 검색 (본문 제외)
+     */
+    @Query("SELECT id, title, author, created_at, updated_at, version FROM posts WHERE author = :author")
+    Flux<PostSummaryRow> findSummariesByAuthor(@Param("author") String author);
+
+    /**
+     * 커서 기반 첫 페이지 조회 (최신순)
+     */
+    @Query("SELECT * FROM posts ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<PostRow> findFirstPage(@Param("limit") int limit);
+
+    /**
+     * 커서 이후 페이지 조회 (최신순, keyset 방식)
+     */
+    @Query("""
+            SELECT * FROM posts
+            WHERE created_at < :createdAt
+               OR (created_at = :createdAt AND id < :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """)
+    Flux<PostRow> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                @Param("limit") int limit);
+
+    /**
+     * 커서 기반 첫 페이지 요약 조회 (최신순, 본문 제외)
+     */
+    @Query("""
+            SELECT id, title, author, created_at, updated_at, version FROM posts
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """)
+    Flux<PostSummaryRow> findSummaryFirstPage(@Param("limit") int limit);
+
+    /**
+     * 커서 이후 페이지 요약 조회 (최신순, keyset 방식, 본문 제외)
+     */
+    @Query("""
+            SELECT id, title, author, created_at, updated_at, version FROM posts
+            WHERE created_at < :createdAt
+               OR (created_at = :createdAt AND id < :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """)
+    Flux<PostSummaryRow> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              @Param("limit") int limit);
+}
@@ -0,0 +1,151 @@
+package com.gitfactory.blogapi.service;
+
+import com.gitfactory.blogapi.dto.CursorPageResponse;
+import com.gitfactory.blogapi.dto.PostCursor;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
+import com.gitfactory.blogapi.entity.PostRow;
+import com.gitfactory.blogapi.exception.PostNotFoundException;
+import com.gitfactory.blogapi.repository.PostSummaryRow;
+import com.gitfactory.blogapi.repository.ReactivePostRepository;
+import com.gitfactory.blogapi.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * 게시글 조회 전용 Reactive 서비스 (reactive 프로필)
+ *
+ * PostService의 조회 API와 같은 결과를 논블로킹으로 반환합니다.
+ * 쓰기 API는 제공하지 않으며, 생성/수정/삭제는 기본(서블릿) 프로필 인스턴스가 담당합니다.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactivePostService {
+
+    private final ReactivePostRepository reactivePostRepository;
+    private final PostSearchIndex postSearchIndex;
+
+    /**
+     * 모든 게시글 조회 (구독자 요청량만큼 DB에서 읽음)
+     */
+    public Flux<PostResponse> getAllPosts() {
+        return reactivePostRepository.findAll(Sort.by("id"))
+                .map(PostRow::toResponse);
+    }
+
+    /**
+     * 모든 게시글 요약 조회 (본문 제외)
+     */
+    public Flux<PostSummaryResponse> getAllPostSummaries() {
+        return reactivePostRepository.findAllSummaries()
+                .map(PostSummaryRow::toResponse);
+    }
+
+    /**
+     * 커서 기반 게시글 페이지 조회 (최신순)
+     */
+    public Mono<CursorPageResponse<PostResponse>> getPostPage(String cursor, int size) {
+        int pageSize = PostService.normalizePageSize(size);
+
+        Flux<PostRow> rows;
+        if (PostService.isFirstPage(cursor)) {
+            rows = reactivePostRepository.findFirstPage(pageSize + 1);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            rows = reactivePostRepository.findPageAfter(position.createdAt(), position.id(), pageSize + 1);
+        }
+
+        return rows.collectList()
+                .map(list -> PostService.toCursorPage(list, pageSize,
+                        row -> new PostCursor(row.createdAt(), row.id()),
+                        PostRow::toResponse));
+    }
+
+    /**
+     * 커서 기반 게시글 요약 페이지 조회 (최신순, 본문 제외)
+     */
+    public Mono<CursorPageResponse<PostSummaryResponse>> getPostSummaryPage(String cursor, int size) {
+        int pageSize = PostService.normalizePageSize(size);
+
+        Flux<PostSummaryRow> rows;
+        if (PostService.isFirstPage(cursor)) {
+            rows = reactivePostRepository.findSummaryFirstPage(pageSize + 1);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            rows = reactivePostRepository.findSummaryPageAfter(position.createdAt(), position.id(), pageSize + 1);
+        }
+
+        return rows.collectList()
+                .map(list -> PostService.toCursorPage(list, pageSize,
+                        row -> new PostCursor(row.createdAt(), row.id()),
+                        PostSummaryRow::toResponse));
+    }
+
+    /**
+     * ID로 게시글 조회
+     */
+    public Mono<PostResponse> getPostById(Long id) {
+        return reactivePostRepository.findById(id)
+                .map(PostRow::toResponse)
+                .switchIfEmpty(Mono.error(() -> new PostNotFoundException(id)));
+    }
+
+    /**
+     * 제목/본문 전문 검색 (관련도순)
+     */
+    public Flux<PostResponse> search(String keyword, int page, int size) {
+        return searchIds(keyword, page, size)
+                .flatMapMany(ids -> ids.isEmpty()
+                        ? Flux.empty()
+                        : reactivePostRepository.findAllById(ids).collectList()
+                                .flatMapIterable(rows -> PostService.orderByIds(ids, rows,
+                                        PostRow::id, PostRow::toResponse)));
+    }
+
+    /**
+     * 제목/본문 전문 검색 (관련도순, 본문 제외)
+     */
+    public Flux<PostSummaryResponse> searchSummaries(String keyword, int page, int size) {
+        return searchIds(keyword, page, size)
+                .flatMapMany(ids -> ids.isEmpty()
+                        ? Flux.empty()
+                        : reactivePostRepository.findSummariesByIdIn(ids).collectList()
+                                .flatMapIterable(rows -> PostService.orderByIds(ids, rows,
+                                        PostSummaryRow::id, PostSummaryRow::toResponse)));
+    }
+
+    /**
+     * 작성자로 게시글 검색
+     */
+    public Flux<PostResponse> getPostsByAuthor(String author) {
+        return reactivePostRepository.findByAuthor(author)
+                .map(PostRow::toResponse);
+    }
+
+    /**
+     * 작성자로 게시글 요약 검색 (본문 제외)
+     */
+    public Flux<PostSummaryResponse> getPostSummariesByAuthor(String author) {
+        return reactivePostRepository.findSummariesByAuthor(author)
+                .map(PostSummaryRow::toResponse);
+    }
+
+    /**
+     * 검색 인덱스 조회
+     *
+     * postgres 검색 엔진은 JDBC(블로킹)를 사용하므로 이벤트 루프를 막지 않도록 boundedElastic에서 실행합니다.
+     */
+    private Mono<List<Long>> searchIds(String keyword, int page, int size) {
+        return Mono.fromCallable(() -> postSearchIndex.search(keyword, Math.max(page, 0),
+                        PostService.normalizePageSize(size)).postIds())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,102 @@
+package com.gitfactory.blogapi.controller;
+
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * reactive 프로필 통합 테스트 (Netty + R2DBC + H2)
+ *
+ * 데이터는 JPA Repository로 저장하고 Reactive API로 조회해서 같은 스키마를 공유하는지 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@DisplayName("ReactivePostController 테스트")
+class ReactivePostControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private Post savedPost;
+
+    @BeforeEach
+    void setUp() {
+        savedPost = postRepository.saveAndFlush(Post.builder()
+                .title("Reactive 제목")
+                .content("Reactive 본문")
+                .author("작성자")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/{id} - R2DBC로 게시글 조회")
+    void getPostById() {
+        // When & Then
+        webTestClient.get().uri("/api/posts/{id}", savedPost.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Reactive 제목")
+                .jsonPath("$.content").isEqualTo("Reactive 본문");
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/{id} - 존재하지 않는 ID면 404")
+    void getPostById_NotFound() {
+        // When & Then
+        webTestClient.get().uri("/api/posts/{id}", 999_999L)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("GET /api/posts - NDJSON으로 요약 스트리밍")
+    void getAllPosts_Ndjson() {
+        // When
+        Flux<PostSummaryResponse> body = webTestClient.get().uri("/api/posts")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(PostSummaryResponse.class)
+                .getResponseBody();
+
+        // Then
+        StepVerifier.create(body)
+                .assertNext(summary -> assertThat(summary.title()).isEqualTo("Reactive 제목"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?size - 커서 기반 페이지 조회")
+    void getPostPage() {
+        // When & Then
+        webTestClient.get().uri(uri -> uri.path("/api/posts").queryParam("size", 10).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].id").isEqualTo(savedPost.getId())
+                .jsonPath("$.content[0].content").doesNotExist()
+                .jsonPath("$.hasNext").isEqualTo(false);
+    }
+}
@@ -0,0 +1,72 @@
+package com.gitfactory.blogapi.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AimdLimit 테스트")
+class AimdLimitTest {
+
+    @Test
+    @DisplayName("혼잡 응답이면 backoff 비율만큼 줄고 최솟값 아래로는 내려가지 않음")
+    void congestion_Decreases() {
+        // Given
+        AimdLimit limit = new AimdLimit(20, 5, 100, 0.5);
+
+        // When
+        limit.onSample(0, 10, 20, true);
+        int afterFirst = limit.get();
+        limit.onSample(20, 30, 10, true);
+        limit.onSample(40, 50, 5, true);
+
+        // Then
+        assertThat(afterFirst).isEqualTo(10);
+        assertThat(limit.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("감소 전에 시작한 요청들의 느린 응답은 한 번만 반영")
+    void congestion_OncePerWindow() {
+        // Given
+        AimdLimit limit = new AimdLimit(20, 1, 100, 0.5);
+
+        // When: 0~3에 시작한 요청이 모두 느리게 끝남
+        limit.onSample(0, 100, 20, true);
+        limit.onSample(1, 101, 20, true);
+        limit.onSample(3, 102, 20, true);
+        int afterWindow = limit.get();
+        // 감소 이후(100 이후)에 시작한 요청은 다시 줄일 수 있음
+        limit.onSample(150, 300, 10, true);
+
+        // Then
+        assertThat(afterWindow).isEqualTo(10);
+        assertThat(limit.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("정상 응답이면 한도만큼 응답마다 약 1씩 늘고, 한도를 거의 쓰지 않으면 늘지 않음")
+    void normal_IncreasesWhenUtilized() {
+        // Given
+        AimdLimit limit = new AimdLimit(10, 1, 12, 0.9);
+
+        // When: 한도의 절반 미만만 사용
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(i, i + 1, 4, false);
+        }
+        int idle = limit.get();
+        // 한도를 가득 사용
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(i, i + 1, 10, false);
+        }
+        int utilized = limit.get();
+        for (int i = 0; i < 1000; i++) {
+            limit.onSample(i, i + 1, 12, false);
+        }
+
+        // Then
+        assertThat(idle).isEqualTo(10);
+        assertThat(utilized).isEqualTo(10);
+        assertThat(limit.get()).isEqualTo(12);
+    }
+}
@@ -0,0 +1,172 @@
+package com.gitfactory.blogapi.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConcurrencyLimitFilter 테스트")
+class ConcurrencyLimitFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    /** 한도 4, 조회는 절반(2)까지 */
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter(new AimdLimit(4, 1, 10, 0.5), 0.5,
+            Duration.ofSeconds(10), Duration.ofSeconds(10), meterRegistry);
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, objectMapper, Duration.ofSeconds(2));
+
+    @Test
+    @DisplayName("한도 안이면 요청을 처리하고 처리 후 실행 수를 돌려놓음")
+    void withinLimit_Passes() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts/1"), response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("blog.concurrency.inflight").tag("kind", "read").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 몫을 다 쓰면 조회는 503 + Retry-After로 거절, 쓰기는 남은 한도로 처리")
+    void readShareExhausted_RejectsReadsOnly() throws Exception {
+        // Given
+        limiter.tryAcquire(ConcurrencyLimiter.Kind.READ);
+        limiter.tryAcquire(ConcurrencyLimiter.Kind.READ);
+        MockHttpServletResponse readResponse = new MockHttpServletResponse();
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        MockFilterChain readChain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts/1"), readResponse, readChain);
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/posts/1"), writeResponse, new MockFilterChain());
+
+        // Then
+        assertThat(readChain.getRequest()).isNull();
+        assertThat(readResponse.getStatus()).isEqualTo(503);
+        assertThat(readResponse.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(readResponse.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        assertThat(objectMapper.readTree(readResponse.getContentAsByteArray()).get("status").asInt()).isEqualTo(503);
+        assertThat(writeResponse.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("blog.concurrency.rejected").tag("kind", "read").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("blog.concurrency.rejected").tag("kind", "write").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 한도를 다 쓰면 쓰기도 거절")
+    void limitExhausted_RejectsWrites() throws Exception {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire(ConcurrencyLimiter.Kind.WRITE);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/posts"), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("DB 과부하 응답(503)이 나오면 한도를 줄임")
+    void overloadedResponse_DecreasesLimit() throws Exception {
+        // Given
+        MockFilterChain overloaded = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                ((MockHttpServletResponse) response).setStatus(503);
+            }
+        };
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts/1"), new MockHttpServletResponse(), overloaded);
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(meterRegistry.get("blog.concurrency.limit").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 나면 한도는 그대로 두고 실행 수만 돌려놓음")
+    void exception_DropsSample() {
+        // Given
+        MockFilterChain failing = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                throw new IllegalStateException("handler failed");
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> filter.doFilter(
+                new MockHttpServletRequest("PUT", "/api/posts/1"), new MockHttpServletResponse(), failing))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.limit()).isEqualTo(4);
+        assertThat(meterRegistry.get("blog.concurrency.inflight").tag("kind", "write").gauge().value()).isZero();
+        assertThat(meterRegistry.get("blog.concurrency.dropped").tag("kind", "write").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("본문을 쓰기 시작한 뒤의 전송 시간은 지연시간에 넣지 않음")
+    void slowBodyWrite_NotCongested() throws Exception {
+        // Given
+        ConcurrencyLimiter fastLimiter = new ConcurrencyLimiter(new AimdLimit(4, 1, 10, 0.5), 0.5,
+                Duration.ofMillis(50), Duration.ofMillis(50), new SimpleMeterRegistry());
+        ConcurrencyLimitFilter fastFilter = new ConcurrencyLimitFilter(fastLimiter, objectMapper, Duration.ofSeconds(2));
+        MockFilterChain slowClient = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) throws IOException {
+                response.getOutputStream().write('{');
+                try {
+                    Thread.sleep(100);  // 느린 클라이언트로 전송하는 동안
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        // When
+        fastFilter.doFilter(new MockHttpServletRequest("GET", "/api/posts/1"), new MockHttpServletResponse(), slowClient);
+
+        // Then
+        assertThat(fastLimiter.limit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("대량 작업 경로는 제한하지 않음")
+    void bulkPaths_NotLimited() throws Exception {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire(ConcurrencyLimiter.Kind.WRITE);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/posts/batch"), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,47 @@
+package com.gitfactory.blogapi.config;
+
+import com.gitfactory.blogapi.dto.PostResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BlogRuntimeHints 테스트")
+class BlogRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new BlogRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("ObjectMapper로 직접 직렬화하는 DTO의 접근자에 리플렉션 힌트 등록")
+    void dtoBinding() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(PostResponse.class.getMethod("viewCount")))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("SQL 개수 집계용 커넥션/Statement JDK 프록시 힌트 등록")
+    void queryCountProxies() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("벤더별 Flyway 마이그레이션 스크립트와 설정 파일을 리소스로 포함")
+    void flywayMigrations() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/h2/V1__create_posts.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/postgresql/V2__create_posts_indexes.sql.conf"))
+                .accepts(hints);
+    }
+}
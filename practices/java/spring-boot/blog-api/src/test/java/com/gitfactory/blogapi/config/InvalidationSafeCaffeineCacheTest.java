@@ -0,0 +1,192 @@
+package com.gitfactory.blogapi.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InvalidationSafeCaffeineCache 테스트")
+class InvalidationSafeCaffeineCacheTest {
+
+    private final InvalidationSafeCaffeineCache cache =
+            new InvalidationSafeCaffeineCache("posts", Caffeine.newBuilder().build(), false);
+
+    @Test
+    @DisplayName("미스 시 로딩한 값을 저장하고 다음 조회는 로딩하지 않음")
+    void get_LoadsOnce() {
+        // When
+        String first = cache.get(1L, () -> "v1");
+        String second = cache.get(1L, () -> "v2");
+
+        // Then
+        assertThat(first).isEqualTo("v1");
+        assertThat(second).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("로딩 도중 무효화되면 로딩한(수정 전) 값을 저장하지 않음")
+    void get_InvalidatedWhileLoading() {
+        // When
+        String loaded = cache.get(1L, () -> {
+            // 수정 전 행을 읽은 뒤 다른 요청이 수정을 커밋하고 evict
+            cache.evict(1L);
+            return "stale";
+        });
+
+        // Then
+        assertThat(loaded).isEqualTo("stale");  // 이번 호출에는 읽은 값을 그대로 반환
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L, () -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.get(1L).get()).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("전체 비우기도 진행 중인 로딩 결과를 저장하지 않음")
+    void get_ClearedWhileLoading() {
+        // When
+        cache.get(1L, () -> {
+            cache.clear();
+            return "stale";
+        });
+
+        // Then
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("evictIfPresent는 항목이 있었는지 반환")
+    void evictIfPresent() {
+        // Given
+        cache.get(1L, () -> "v1");
+
+        // When & Then
+        assertThat(cache.evictIfPresent(1L)).isTrue();
+        assertThat(cache.evictIfPresent(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 로더를 한 번만 호출하고 모두 같은 값을 받음")
+    void get_ConcurrentMisses_LoadOnce() throws Exception {
+        // Given
+        int threads = 16;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // When
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    return cache.get(1L, () -> {
+                        loads.incrementAndGet();
+                        // 나머지 요청이 모두 조회를 시작할 때까지 DB 조회가 끝나지 않은 상태로 유지
+                        ready.await(5, TimeUnit.SECONDS);
+                        Thread.sleep(50);
+                        return "v1";
+                    });
+                }));
+            }
+
+            // Then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 로딩이 실패하면 기다리던 요청도 같은 원인으로 실패하고 값은 저장하지 않음")
+    void get_ConcurrentMisses_LoaderFails() throws Exception {
+        // Given
+        IllegalStateException failure = new IllegalStateException("db down");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicReference<Throwable> waiterFailure = new AtomicReference<>();
+
+        try {
+            Future<String> leader = executor.submit(() -> cache.get(1L, () -> {
+                loading.countDown();
+                proceed.await(5, TimeUnit.SECONDS);
+                throw failure;
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            Thread waiter = new Thread(() -> {
+                try {
+                    cache.get(1L, () -> "unexpected");
+                } catch (RuntimeException e) {
+                    waiterFailure.set(e);
+                }
+            });
+            waiter.start();
+            // 기다리는 요청이 진행 중인 로딩에 합류(대기)할 때까지
+            while (waiter.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+
+            // When
+            proceed.countDown();
+            waiter.join(5_000);
+
+            // Then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasRootCause(failure);
+            assertThat(waiterFailure.get())
+                    .isInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasRootCause(failure);
+            assertThat(cache.get(1L)).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("무효화 이후에 온 요청은 진행 중인(수정 전) 로딩을 기다리지 않고 새로 로딩")
+    void get_AfterEvict_DoesNotJoinStaleLoad() throws Exception {
+        // Given
+        CountDownLatch evicted = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> staleLoad = executor.submit(() -> cache.get(1L, () -> {
+                // 수정 전 행을 읽은 뒤 다른 요청이 수정을 커밋하고 evict
+                cache.evict(1L);
+                evicted.countDown();
+                proceed.await(5, TimeUnit.SECONDS);
+                return "stale";
+            }));
+            evicted.await(5, TimeUnit.SECONDS);
+
+            // When
+            String fresh = cache.get(1L, () -> "fresh");
+            proceed.countDown();
+
+            // Then
+            assertThat(fresh).isEqualTo("fresh");
+            assertThat(staleLoad.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+            assertThat(cache.get(1L).get()).isEqualTo("fresh");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
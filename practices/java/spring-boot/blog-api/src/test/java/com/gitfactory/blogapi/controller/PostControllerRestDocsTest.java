@@ -1,9 +1,18 @@
 package com.gitfactory.blogapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gitfactory.blogapi.dto.BatchCreateResponse;
+import com.gitfactory.blogapi.dto.BatchItemResult;
+import com.gitfactory.blogapi.dto.CursorPageResponse;
+import com.gitfactory.blogapi.dto.PostPatchRequest;
 import com.gitfactory.blogapi.dto.PostRequest;
 import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
+import com.gitfactory.blogapi.jsoncache.PostJsonCache;
+import com.gitfactory.blogapi.service.PostBatchService;
+import com.gitfactory.blogapi.service.PostExportService;
 import com.gitfactory.blogapi.service.PostService;
+import com.gitfactory.blogapi.viewcount.ViewCountBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +20,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -20,8 +31,12 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
@@ -36,6 +51,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @ExtendWith(RestDocumentationExtension.class): REST Docs 확장 기능
  */
 @WebMvcTest(PostController.class)
+@Import(PostJsonCache.class)
 @AutoConfigureRestDocs
 @ExtendWith(RestDocumentationExtension.class)
 class PostControllerRestDocsTest {
@@ -46,10 +62,20 @@ class PostControllerRestDocsTest {
     @MockBean  // Spring Boot 3.3.5에서는 MockBean 사용
     private PostService postService;
 
+    @MockBean
+    private PostBatchService postBatchService;
+
+    @MockBean
+    private PostExportService postExportService;
+
+    @MockBean
+    private ViewCountBuffer viewCountBuffer;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private PostResponse sampleResponse;
+    private PostSummaryResponse sampleSummary;
 
     @BeforeEach
     void setUp() {
@@ -59,30 +85,48 @@ class PostControllerRestDocsTest {
                 "테스트 내용",
                 "테스트 작성자",
                 LocalDateTime.now(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                42L,
+                0L
+        );
+        sampleSummary = new PostSummaryResponse(
+                1L,
+                "테스트 제목",
+                "테스트 작성자",
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                0L
         );
     }
 
     @Test
-    void 전체_게시글_조회_API_문서화() throws Exception {
+    void 게시글_커서_페이지_조회_API_문서화() throws Exception {
         // Given
-        List<PostResponse> posts = Arrays.asList(sampleResponse);
-        given(postService.getAllPosts()).willReturn(posts);
+        CursorPageResponse<PostSummaryResponse> page = new CursorPageResponse<>(
+                List.of(sampleSummary), "MjAyNS0xMi0wNlQxMDowMHw0Mg", true);
+        given(postService.getPostSummaryPage(isNull(), anyInt())).willReturn(page);
 
         // When & Then
         mockMvc.perform(get("/api/posts")
+                        .param("size", "20")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andDo(document("posts-get-all",
+                .andDo(document("posts-get-page",
                         preprocessRequest(prettyPrint()),
                         preprocessResponse(prettyPrint()),
+                        queryParameters(
+                                parameterWithName("size").description("페이지 크기 (기본 20, 최대 100)").optional(),
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지면 생략)").optional(),
+                                parameterWithName("fields").description("full 지정 시 본문 포함").optional()
+                        ),
                         responseFields(
-                                fieldWithPath("[].id").description("게시글 ID"),
-                                fieldWithPath("[].title").description("게시글 제목"),
-                                fieldWithPath("[].content").description("게시글 내용"),
-                                fieldWithPath("[].author").description("작성자"),
-                                fieldWithPath("[].createdAt").description("생성일시"),
-                                fieldWithPath("[].updatedAt").description("수정일시")
+                                fieldWithPath("content[].id").description("게시글 ID"),
+                                fieldWithPath("content[].title").description("게시글 제목"),
+                                fieldWithPath("content[].author").description("작성자"),
+                                fieldWithPath("content[].createdAt").description("생성일시"),
+                                fieldWithPath("content[].updatedAt").description("수정일시"),
+                                fieldWithPath("nextCursor").description("다음 페이지 커서 (마지막 페이지면 null)"),
+                                fieldWithPath("hasNext").description("다음 페이지 존재 여부")
                         )
                 ));
     }
@@ -102,13 +146,20 @@ class PostControllerRestDocsTest {
                         pathParameters(
                                 parameterWithName("id").description("게시글 ID")
                         ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG)
+                                        .description("게시글 버전 식별자, 약한 ETag W/\"{id}-{version}\" (If-None-Match / If-Match에 사용)"),
+                                headerWithName(HttpHeaders.LAST_MODIFIED)
+                                        .description("마지막 수정일시 (If-Modified-Since에 사용)")
+                        ),
                         responseFields(
                                 fieldWithPath("id").description("게시글 ID"),
                                 fieldWithPath("title").description("게시글 제목"),
                                 fieldWithPath("content").description("게시글 내용"),
                                 fieldWithPath("author").description("작성자"),
                                 fieldWithPath("createdAt").description("생성일시"),
-                                fieldWithPath("updatedAt").description("수정일시")
+                                fieldWithPath("updatedAt").description("수정일시"),
+                                fieldWithPath("viewCount").description("조회수 (최대 수 초 늦게 반영되는 근사값)")
                         )
                 ));
     }
@@ -138,7 +189,46 @@ class PostControllerRestDocsTest {
                                 fieldWithPath("content").description("게시글 내용"),
                                 fieldWithPath("author").description("작성자"),
                                 fieldWithPath("createdAt").description("생성일시"),
-                                fieldWithPath("updatedAt").description("수정일시")
+                                fieldWithPath("updatedAt").description("수정일시"),
+                                fieldWithPath("viewCount").description("조회수 (최대 수 초 늦게 반영되는 근사값)")
+                        )
+                ));
+    }
+
+    @Test
+    void 게시글_대량_등록_API_문서화() throws Exception {
+        // Given
+        List<PostRequest> requests = List.of(
+                new PostRequest("첫 번째 게시글", "첫 번째 내용", "작성자"),
+                new PostRequest("", "제목 없는 게시글", "작성자")
+        );
+        BatchCreateResponse response = BatchCreateResponse.of(List.of(
+                BatchItemResult.created(0, 1L),
+                BatchItemResult.failed(1, "title is required")
+        ));
+        given(postBatchService.createPosts(anyList())).willReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/posts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andDo(document("posts-create-batch",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestFields(
+                                fieldWithPath("[].title").description("게시글 제목"),
+                                fieldWithPath("[].content").description("게시글 내용"),
+                                fieldWithPath("[].author").description("작성자")
+                        ),
+                        responseFields(
+                                fieldWithPath("total").description("요청 건수"),
+                                fieldWithPath("succeeded").description("성공 건수"),
+                                fieldWithPath("failed").description("실패 건수"),
+                                fieldWithPath("results[].index").description("요청 배열 내 위치"),
+                                fieldWithPath("results[].status").description("처리 결과 (CREATED, FAILED)"),
+                                fieldWithPath("results[].id").description("생성된 게시글 ID (실패 시 null)").optional(),
+                                fieldWithPath("results[].error").description("실패 사유 (성공 시 null)").optional()
                         )
                 ));
     }
@@ -153,12 +243,15 @@ class PostControllerRestDocsTest {
                 "수정된 내용",
                 "수정자",
                 sampleResponse.createdAt(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                sampleResponse.viewCount(),
+                1L
         );
-        given(postService.updatePost(anyLong(), any(PostRequest.class))).willReturn(updatedResponse);
+        given(postService.updatePost(anyLong(), any(PostRequest.class), any())).willReturn(updatedResponse);
 
         // When & Then
         mockMvc.perform(put("/api/posts/{id}", 1L)
+                        .header(HttpHeaders.IF_MATCH, PostETags.of(sampleResponse))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -168,6 +261,13 @@ class PostControllerRestDocsTest {
                         pathParameters(
                                 parameterWithName("id").description("수정할 게시글 ID")
                         ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.IF_MATCH)
+                                        .description("조회 시 받은 ETag (일치할 때만 수정, 불일치 시 412)").optional()
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG).description("수정된 게시글의 ETag")
+                        ),
                         requestFields(
                                 fieldWithPath("title").description("수정할 제목"),
                                 fieldWithPath("content").description("수정할 내용"),
@@ -179,7 +279,32 @@ class PostControllerRestDocsTest {
                                 fieldWithPath("content").description("수정된 내용"),
                                 fieldWithPath("author").description("수정자"),
                                 fieldWithPath("createdAt").description("생성일시"),
-                                fieldWithPath("updatedAt").description("수정일시")
+                                fieldWithPath("updatedAt").description("수정일시"),
+                                fieldWithPath("viewCount").description("조회수 (최대 수 초 늦게 반영되는 근사값)")
+                        )
+                ));
+    }
+
+    @Test
+    void 게시글_부분_수정_API_문서화() throws Exception {
+        // Given
+        PostPatchRequest request = new PostPatchRequest("수정된 제목", null, null);
+
+        // When & Then
+        mockMvc.perform(patch("/api/posts/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNoContent())
+                .andDo(document("posts-patch",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("id").description("수정할 게시글 ID")
+                        ),
+                        requestFields(
+                                fieldWithPath("title").description("수정할 제목 (생략하면 유지)").optional(),
+                                fieldWithPath("content").description("수정할 내용 (생략하면 유지)").optional(),
+                                fieldWithPath("author").description("수정자 (생략하면 유지)").optional()
                         )
                 ));
     }
@@ -201,8 +326,8 @@ class PostControllerRestDocsTest {
     @Test
     void 제목으로_검색_API_문서화() throws Exception {
         // Given
-        List<PostResponse> posts = Arrays.asList(sampleResponse);
-        given(postService.searchByTitle(any(String.class))).willReturn(posts);
+        List<PostSummaryResponse> posts = Arrays.asList(sampleSummary);
+        given(postService.searchSummaries(any(String.class), anyInt(), anyInt())).willReturn(posts);
 
         // When & Then
         mockMvc.perform(get("/api/posts/search")
@@ -213,12 +338,14 @@ class PostControllerRestDocsTest {
                         preprocessRequest(prettyPrint()),
                         preprocessResponse(prettyPrint()),
                         queryParameters(
-                                parameterWithName("keyword").description("검색할 키워드 (제목)")
+                                parameterWithName("keyword").description("검색할 키워드 (제목, 본문)"),
+                                parameterWithName("page").description("페이지 번호 (기본값 0)").optional(),
+                                parameterWithName("size").description("페이지 크기 (기본값 20, 최대 100)").optional(),
+                                parameterWithName("fields").description("full 지정 시 본문 포함").optional()
                         ),
                         responseFields(
                                 fieldWithPath("[].id").description("게시글 ID"),
                                 fieldWithPath("[].title").description("게시글 제목"),
-                                fieldWithPath("[].content").description("게시글 내용"),
                                 fieldWithPath("[].author").description("작성자"),
                                 fieldWithPath("[].createdAt").description("생성일시"),
                                 fieldWithPath("[].updatedAt").description("수정일시")
@@ -227,29 +354,37 @@ class PostControllerRestDocsTest {
     }
 
     @Test
-    void 작성자로_검색_API_문서화() throws Exception {
+    void 작성자_페이지_조회_API_문서화() throws Exception {
         // Given
-        List<PostResponse> posts = Arrays.asList(sampleResponse);
-        given(postService.getPostsByAuthor(any(String.class))).willReturn(posts);
+        CursorPageResponse<PostSummaryResponse> page = new CursorPageResponse<>(
+                List.of(sampleSummary), "MjAyNS0xMi0wNlQxMDowMHw0Mg", true);
+        given(postService.getPostSummaryPageByAuthor(any(String.class), isNull(), anyInt())).willReturn(page);
 
         // When & Then
         mockMvc.perform(get("/api/posts/author/{author}", "테스트작성자")
+                        .param("size", "20")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andDo(document("posts-search-by-author",
+                .andDo(document("posts-search-by-author-page",
                         preprocessRequest(prettyPrint()),
                         preprocessResponse(prettyPrint()),
                         pathParameters(
                                 parameterWithName("author").description("검색할 작성자명")
                         ),
+                        queryParameters(
+                                parameterWithName("size").description("페이지 크기 (기본 20, 최대 100)").optional(),
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지면 생략)").optional(),
+                                parameterWithName("fields").description("full 지정 시 본문 포함").optional()
+                        ),
                         responseFields(
-                                fieldWithPath("[].id").description("게시글 ID"),
-                                fieldWithPath("[].title").description("게시글 제목"),
-                                fieldWithPath("[].content").description("게시글 내용"),
-                                fieldWithPath("[].author").description("작성자"),
-                                fieldWithPath("[].createdAt").description("생성일시"),
-                                fieldWithPath("[].updatedAt").description("수정일시")
+                                fieldWithPath("content[].id").description("게시글 ID"),
+                                fieldWithPath("content[].title").description("게시글 제목"),
+                                fieldWithPath("content[].author").description("작성자"),
+                                fieldWithPath("content[].createdAt").description("생성일시"),
+                                fieldWithPath("content[].updatedAt").description("수정일시"),
+                                fieldWithPath("nextCursor").description("다음 페이지 커서 (마지막 페이지면 null)"),
+                                fieldWithPath("hasNext").description("다음 페이지 존재 여부")
                         )
                 ));
     }
-}
\ No newline at end of file
+}
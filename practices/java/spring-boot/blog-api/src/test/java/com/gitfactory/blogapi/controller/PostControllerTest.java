@@ -2,31 +2,62 @@ package com.gitfactory.blogapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gitfactory.blogapi.config.JpaAuditingConfig;
+import com.gitfactory.blogapi.dto.BatchCreateResponse;
+import com.gitfactory.blogapi.dto.BatchItemResult;
+import com.gitfactory.blogapi.dto.CursorPageResponse;
+import com.gitfactory.blogapi.dto.PostPatchRequest;
 import com.gitfactory.blogapi.dto.PostRequest;
 import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
+import com.gitfactory.blogapi.exception.InvalidCursorException;
+import com.gitfactory.blogapi.exception.PostNotFoundException;
+import com.gitfactory.blogapi.jsoncache.PostJsonCache;
+import com.gitfactory.blogapi.service.PostBatchService;
+import com.gitfactory.blogapi.service.PostExportService;
 import com.gitfactory.blogapi.service.PostService;
+import com.gitfactory.blogapi.viewcount.ViewCountBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 @WebMvcTest(
         controllers = PostController.class,
@@ -35,6 +66,7 @@ import static org.hamcrest.Matchers.is;
                 classes = JpaAuditingConfig.class
         )
 )
+@Import(PostJsonCache.class)
 @DisplayName("PostController 통합 테스트")
 class PostControllerTest {
 
@@ -44,40 +76,203 @@ class PostControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
-    @MockitoBean
+    @MockBean
     private PostService postService;
 
+    @MockBean
+    private PostBatchService postBatchService;
+
+    @MockBean
+    private PostExportService postExportService;
+
+    @MockBean
+    private ViewCountBuffer viewCountBuffer;
+
+    @SpyBean
+    private PostJsonCache postJsonCache;
+
     private PostResponse postResponse;
+    private PostSummaryResponse postSummaryResponse;
     private PostRequest postRequest;
 
     @BeforeEach
     void setUp() {
-        postRequest = PostRequest.builder()
-                .title("테스트 제목")
-                .content("테스트 내용")
-                .author("테스트 작성자")
-                .build();
+        postRequest = new PostRequest("테스트 제목", "테스트 내용", "테스트 작성자");
+
+        postResponse = new PostResponse(1L, "테스트 제목", "테스트 내용", "테스트 작성자",
+                LocalDateTime.of(2025, 12, 6, 10, 0), LocalDateTime.of(2025, 12, 6, 10, 0), 0L, 0L);
 
-        postResponse = PostResponse.builder()
-                .title("테스트 제목")
-                .content("테스트 내용")
-                .author("테스트 작성자")
-                .build();
+        postSummaryResponse = new PostSummaryResponse(
+                1L,
+                "테스트 제목",
+                "테스트 작성자",
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                0L
+        );
     }
 
     @Test
-    @DisplayName("GET /api/posts - 전체 포스트 조회")
-    void getAllPosts() throws Exception {
+    @DisplayName("GET /api/posts - size를 생략하면 기본 크기(20)의 첫 페이지 요약 조회 (본문 제외)")
+    void getPostPage_DefaultSize() throws Exception {
         // Given
-        List<PostResponse> posts = Arrays.asList(postResponse);
-        given(postService.getAllPosts()).willReturn(posts);
+        given(postService.getPostSummaryPage(isNull(), eq(20)))
+                .willReturn(new CursorPageResponse<>(List.of(postSummaryResponse), "next-cursor", true));
 
         // When & Then
         mockMvc.perform(get("/api/posts"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].title", is("테스트 제목")))
-                .andExpect(jsonPath("$[0].content", is("테스트 내용")));
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].title", is("테스트 제목")))
+                .andExpect(jsonPath("$.content[0].content").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor", is("next-cursor")));
+        verify(postService, never()).getAllPostSummaries();
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?fields=full - size를 생략하면 기본 크기(20)의 첫 페이지 조회")
+    void getPostPage_DefaultSize_FullFields() throws Exception {
+        // Given
+        given(postService.getPostPage(isNull(), eq(20)))
+                .willReturn(new CursorPageResponse<>(List.of(postResponse), null, false));
+
+        // When & Then
+        mockMvc.perform(get("/api/posts").param("fields", "full"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].title", is("테스트 제목")))
+                .andExpect(jsonPath("$.content[0].content", is("테스트 내용")));
+        verify(postService, never()).getAllPosts();
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?size= - 커서 기반 페이지 조회")
+    void getPostPage() throws Exception {
+        // Given
+        CursorPageResponse<PostSummaryResponse> page =
+                new CursorPageResponse<>(List.of(postSummaryResponse), "next-cursor", true);
+        given(postService.getPostSummaryPage(isNull(), eq(20))).willReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/posts").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].content").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor", is("next-cursor")))
+                .andExpect(jsonPath("$.hasNext", is(true)));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/author/{author}?size= - 작성자의 커서 기반 페이지 조회")
+    void getPostPageByAuthor() throws Exception {
+        // Given
+        CursorPageResponse<PostSummaryResponse> page =
+                new CursorPageResponse<>(List.of(postSummaryResponse), "next-cursor", true);
+        given(postService.getPostSummaryPageByAuthor(eq("테스트 작성자"), isNull(), eq(10))).willReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/author/{author}", "테스트 작성자").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].author", is("테스트 작성자")))
+                .andExpect(jsonPath("$.nextCursor", is("next-cursor")));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?size=&fields=full - 커서 기반 전체 필드 페이지 조회")
+    void getPostPage_FullFields() throws Exception {
+        // Given
+        CursorPageResponse<PostResponse> page =
+                new CursorPageResponse<>(List.of(postResponse), null, false);
+        given(postService.getPostPage(eq("cursor"), eq(20))).willReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/posts")
+                        .param("size", "20")
+                        .param("cursor", "cursor")
+                        .param("fields", "full"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].content", is("테스트 내용")))
+                .andExpect(jsonPath("$.nextCursor", nullValue()))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?size=&cursor= - 잘못된 커서면 400")
+    void getPostPage_InvalidCursor() throws Exception {
+        // Given
+        given(postService.getPostSummaryPage(eq("not-a-cursor"), eq(20)))
+                .willThrow(new InvalidCursorException("not-a-cursor"));
+
+        // When & Then
+        mockMvc.perform(get("/api/posts").param("size", "20").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("Invalid cursor: not-a-cursor")));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts - 내부 IllegalArgumentException은 400이 아닌 500, 메시지 노출 안 함")
+    void getAllPosts_InternalIllegalArgument() throws Exception {
+        // Given
+        given(postService.getPostSummaryPage(isNull(), eq(20))).willThrow(new IllegalArgumentException("internal detail"));
+
+        // When & Then
+        mockMvc.perform(get("/api/posts"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.detail", is("Internal server error")));
+    }
+
+    @Test
+    @DisplayName("POST /api/posts - JSON 형식이 잘못되면 500이 아닌 400 ProblemDetail")
+    void createPost_MalformedJson() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/posts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+
+        verify(postService, never()).createPost(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/{id} - ID가 숫자가 아니면 500이 아닌 400 ProblemDetail")
+    void getPost_IdTypeMismatch() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/posts/{id}", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+
+        verify(postService, never()).getPostById(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/search - keyword 파라미터가 없으면 500이 아닌 400 ProblemDetail")
+    void search_MissingKeyword() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/posts/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+
+        verify(postService, never()).searchSummaries(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/export - NDJSON 스트리밍 내보내기")
+    void exportPosts() throws Exception {
+        // Given
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).given(postExportService).exportAsNdjson(any(OutputStream.class));
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
     }
 
     @Test
@@ -93,17 +288,173 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.content", is("테스트 내용")));
     }
 
+    @Test
+    @DisplayName("GET /api/posts/{id} - 조회수 증가, DB 반영 전 증가분을 더해서 응답")
+    void getPostById_IncrementsViewCount() throws Exception {
+        // Given
+        PostResponse post = new PostResponse(1L, "테스트 제목", "테스트 내용", "테스트 작성자",
+                LocalDateTime.of(2025, 12, 6, 10, 0), LocalDateTime.of(2025, 12, 6, 15, 30), 10L, 3L);
+        given(postService.getPostById(1L)).willReturn(post);
+        given(viewCountBuffer.increment(1L)).willReturn(5L);
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount", is(15)));
+        verify(viewCountBuffer).increment(1L);
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/{id} - If-None-Match가 현재 ETag와 같으면 304")
+    void getPostById_NotModified() throws Exception {
+        // Given
+        PostResponse post = new PostResponse(1L, "테스트 제목", "테스트 내용", "테스트 작성자",
+                LocalDateTime.of(2025, 12, 6, 10, 0), LocalDateTime.of(2025, 12, 6, 15, 30, 0, 123_456_000), 0L, 3L);
+        given(postService.getPostById(1L)).willReturn(post);
+        String etag = mockMvc.perform(get("/api/posts/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        verify(postJsonCache, times(1)).body(any(), any(), anyLong(), anyBoolean());  // 304에는 본문을 만들지 않음
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/{id} - 조회수만 바뀐 응답은 같은 약한 ETag를 사용")
+    void getPostById_WeakETagIgnoresViewCount() throws Exception {
+        // Given
+        PostResponse post = new PostResponse(1L, "테스트 제목", "테스트 내용", "테스트 작성자",
+                LocalDateTime.of(2025, 12, 6, 10, 0), LocalDateTime.of(2025, 12, 6, 15, 30), 10L, 3L);
+        given(postService.getPostById(1L)).willReturn(post);
+        given(viewCountBuffer.increment(1L)).willReturn(1L, 2L);
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/{id}", 1L))
+                .andExpect(jsonPath("$.viewCount", is(11)))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-3\""));
+        mockMvc.perform(get("/api/posts/{id}", 1L))
+                .andExpect(jsonPath("$.viewCount", is(12)))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-3\""));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/{id} - gzip 표현의 ETag는 gzip을 받는 요청에만 304")
+    void getPostById_NotModified_Gzip() throws Exception {
+        // Given
+        PostResponse post = new PostResponse(1L, "테스트 제목", "긴 내용 ".repeat(200), "테스트 작성자",
+                LocalDateTime.of(2025, 12, 6, 10, 0), LocalDateTime.of(2025, 12, 6, 15, 30), 0L, 3L);
+        given(postService.getPostById(1L)).willReturn(post);
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/{id}", 1L)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"1-3-gzip\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/posts/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "W/\"1-3-gzip\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-3\""));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/{id} - Accept-Encoding: gzip이면 캐시된 JSON을 gzip으로 응답")
+    void getPostById_Gzip() throws Exception {
+        // Given
+        PostResponse post = new PostResponse(1L, "테스트 제목", "긴 내용 ".repeat(200), "테스트 작성자",
+                LocalDateTime.of(2025, 12, 6, 10, 0), LocalDateTime.of(2025, 12, 6, 15, 30), 10L, 3L);
+        given(postService.getPostById(1L)).willReturn(post);
+        given(viewCountBuffer.increment(1L)).willReturn(5L);
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/posts/{id}", 1L).header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-3-gzip\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(in.readAllBytes()).isEqualTo(objectMapper.writeValueAsBytes(post.withViewCount(15L)));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/posts - 목록이 바뀌지 않았으면 304")
+    void getAllPostSummaries_NotModified() throws Exception {
+        // Given
+        given(postService.getPostSummaryPage(isNull(), eq(20)))
+                .willReturn(new CursorPageResponse<>(List.of(postSummaryResponse), null, false));
+        given(postService.getPostPage(isNull(), eq(20)))
+                .willReturn(new CursorPageResponse<>(List.of(postResponse), null, false));
+        String etag = mockMvc.perform(get("/api/posts"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/posts").param("fields", "full").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("PUT /api/posts/{id} - 다른 게시글의 ETag로 If-Match 요청하면 412")
+    void updatePost_IfMatchMismatch() throws Exception {
+        // When & Then
+        mockMvc.perform(put("/api/posts/{id}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"2-3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(postRequest)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(postService, never()).updatePost(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/posts/{id} - If-Match의 버전을 조건으로 전달")
+    void deletePost_IfMatch() throws Exception {
+        // Given
+        PostResponse post = new PostResponse(1L, "테스트 제목", "테스트 내용", "테스트 작성자",
+                LocalDateTime.of(2025, 12, 6, 10, 0), LocalDateTime.of(2025, 12, 6, 15, 30, 0, 123_456_000), 0L, 3L);
+
+        // When
+        mockMvc.perform(delete("/api/posts/{id}", 1L).header(HttpHeaders.IF_MATCH, PostETags.of(post)))
+                .andExpect(status().isNoContent());
+
+        // Then
+        verify(postService).deletePost(1L, post.version());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/posts/{id} - gzip 표현의 약한 ETag도 같은 버전으로 해석")
+    void deletePost_IfMatchGzipETag() throws Exception {
+        // When
+        mockMvc.perform(delete("/api/posts/{id}", 1L).header(HttpHeaders.IF_MATCH, "W/\"1-3-gzip\""))
+                .andExpect(status().isNoContent());
+
+        // Then
+        verify(postService).deletePost(1L, 3L);
+    }
+
     @Test
     @DisplayName("GET /api/posts/{id} - 존재하지 않는 ID로 조회 실패")
     void getPostById_NotFound() throws Exception {
         // Given
         given(postService.getPostById(999L))
-                .willThrow(new RuntimeException("Post not found with id: 999"));
+                .willThrow(new PostNotFoundException(999L));
 
         // When & Then
         mockMvc.perform(get("/api/posts/{id}", 999L))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Post not found with id: 999"));  // ✅ 메시지도 확인
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status", is(404)))
+                .andExpect(jsonPath("$.title", is("Post not found")))
+                .andExpect(jsonPath("$.detail", is("Post not found with id: 999")))  // ✅ 메시지도 확인
+                .andExpect(jsonPath("$.instance", is("/api/posts/999")));
     }
 
     @Test
@@ -121,23 +472,38 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.content", is("테스트 내용")));
     }
 
+    @Test
+    @DisplayName("POST /api/posts/batch - 대량 등록 (부분 실패 포함)")
+    void createPosts() throws Exception {
+        // Given
+        BatchCreateResponse response = BatchCreateResponse.of(List.of(
+                BatchItemResult.created(0, 1L),
+                BatchItemResult.failed(1, "title is required")
+        ));
+        given(postBatchService.createPosts(anyList())).willReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/posts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(postRequest, postRequest))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(2)))
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.results[1].status", is("FAILED")))
+                .andExpect(jsonPath("$.results[1].error", is("title is required")));
+    }
+
     @Test
     @DisplayName("PUT /api/posts/{id} - 포스트 수정 성공")
     void updatePost() throws Exception {
         // Given
-        PostRequest updateRequest = PostRequest.builder()
-                .title("수정된 제목")
-                .content("수정된 내용")
-                .author("테스트 작성자")
-                .build();
+        PostRequest updateRequest = new PostRequest("수정된 제목", "수정된 내용", "테스트 작성자");
 
-        PostResponse updateResponse = PostResponse.builder()
-                .title("수정된 제목")
-                .content("수정된 내용")
-                .author("테스트 작성자")
-                .build();
+        PostResponse updateResponse = new PostResponse(1L, "수정된 제목", "수정된 내용", "테스트 작성자",
+                LocalDateTime.of(2025, 12, 6, 10, 0), LocalDateTime.of(2025, 12, 6, 15, 30), 0L, 1L);
 
-        given(postService.updatePost(eq(1L), any(PostRequest.class)))
+        given(postService.updatePost(eq(1L), any(PostRequest.class), isNull()))
                 .willReturn(updateResponse);
 
         // When & Then
@@ -153,7 +519,7 @@ class PostControllerTest {
     @DisplayName("DELETE /api/posts/{id} - 포스트 삭제 성공")
     void deletePost() throws Exception {
         // Given
-        doNothing().when(postService).deletePost(1L);
+        doNothing().when(postService).deletePost(eq(1L), isNull());
 
         // When & Then
         mockMvc.perform(delete("/api/posts/{id}", 1L))
@@ -161,31 +527,123 @@ class PostControllerTest {
     }
 
     @Test
-    @DisplayName("GET /api/posts/search - 제목으로 검색")
+    @DisplayName("PATCH /api/posts/{id} - 포스트 부분 수정 성공")
+    void patchPost() throws Exception {
+        // Given
+        PostPatchRequest patchRequest = new PostPatchRequest("수정된 제목", null, null);
+        doNothing().when(postService).patchPost(eq(1L), any(PostPatchRequest.class), isNull());
+
+        // When & Then
+        mockMvc.perform(patch("/api/posts/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patchRequest)))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/posts/{id} - 제목이 최대 길이를 넘으면 DB에 보내지 않고 400")
+    void patchPost_TitleTooLong() throws Exception {
+        // Given
+        PostPatchRequest patchRequest = new PostPatchRequest("가".repeat(PostRequest.TITLE_MAX_LENGTH + 1), null, null);
+
+        // When & Then
+        mockMvc.perform(patch("/api/posts/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patchRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.errors", hasSize(1)));
+
+        verify(postService, never()).patchPost(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/posts/{id} - 전달한 필드가 공백뿐이면 400 (생략한 필드는 검사하지 않음)")
+    void patchPost_BlankField() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/posts/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"author\":\"  \"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(postService, never()).patchPost(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("PUT /api/posts/{id} - 필수 필드가 없거나 길이를 넘으면 400")
+    void updatePost_InvalidRequest() throws Exception {
+        // Given
+        PostRequest updateRequest = new PostRequest(null, "수정된 내용", "가".repeat(PostRequest.AUTHOR_MAX_LENGTH + 1));
+
+        // When & Then
+        mockMvc.perform(put("/api/posts/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(2)));
+
+        verify(postService, never()).updatePost(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/posts/{id} - 존재하지 않는 ID면 404")
+    void patchPost_NotFound() throws Exception {
+        // Given
+        willThrow(new PostNotFoundException(999L))
+                .given(postService).patchPost(eq(999L), any(PostPatchRequest.class), isNull());
+
+        // When & Then
+        mockMvc.perform(patch("/api/posts/{id}", 999L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"수정된 제목\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/search - 제목/본문 검색")
     void searchByTitle() throws Exception {
         // Given
         List<PostResponse> posts = Arrays.asList(postResponse);
-        given(postService.searchByTitle("테스트")).willReturn(posts);
+        given(postService.search("테스트", 0, 20)).willReturn(posts);
 
         // When & Then - ✅ keyword 파라미터로 변경!
         mockMvc.perform(get("/api/posts/search")
-                        .param("keyword", "테스트"))  // title → keyword
+                        .param("keyword", "테스트")  // title → keyword
+                        .param("fields", "full"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].title", is("테스트 제목")));
     }
 
     @Test
-    @DisplayName("GET /api/posts/author/{author} - 작성자로 검색")
-    void getPostsByAuthor() throws Exception {
+    @DisplayName("GET /api/posts/author/{author}?fields=full - size를 생략하면 작성자의 첫 페이지 조회")
+    void getPostPageByAuthor_DefaultSize_FullFields() throws Exception {
         // Given
-        List<PostResponse> posts = Arrays.asList(postResponse);
-        given(postService.getPostsByAuthor("테스트 작성자")).willReturn(posts);
+        given(postService.getPostPageByAuthor(eq("테스트 작성자"), isNull(), eq(20)))
+                .willReturn(new CursorPageResponse<>(List.of(postResponse), null, false));
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/author/{author}", "테스트 작성자")
+                        .param("fields", "full"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].author", is("테스트 작성자")));
+        verify(postService, never()).getPostsByAuthor(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/author/{author} - size를 생략하면 작성자의 첫 페이지 요약 조회 (본문 제외)")
+    void getPostPageByAuthor_DefaultSize() throws Exception {
+        // Given
+        given(postService.getPostSummaryPageByAuthor(eq("테스트 작성자"), isNull(), eq(20)))
+                .willReturn(new CursorPageResponse<>(List.of(postSummaryResponse), null, false));
 
         // When & Then
         mockMvc.perform(get("/api/posts/author/{author}", "테스트 작성자"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].author", is("테스트 작성자")));
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].author", is("테스트 작성자")))
+                .andExpect(jsonPath("$.content[0].content").doesNotExist());
+        verify(postService, never()).getPostSummariesByAuthor(any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,132 @@
+package com.gitfactory.blogapi.datasource;
+
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
+import com.gitfactory.blogapi.exception.PostNotFoundException;
+import com.gitfactory.blogapi.service.PostService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 테스트
+ *
+ * primary(blogdb)와 replica 두 개의 H2 인메모리 DB로 라우팅을 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "blog.datasource.replica.url=" + ReadWriteRoutingDataSourceTest.REPLICA_URL,
+        "blog.datasource.replica.check-interval-ms=3600000"
+})
+@DisplayName("읽기/쓰기 DataSource 라우팅 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    static {
+        // 실제 환경에서는 복제로 만들어지는 replica 스키마를 컨텍스트 시작 전에 준비
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        replicaLagMonitor.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(replicaDataSource).update("DELETE FROM posts");
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 그 외는 primary 사용")
+    void routesByReadOnly() {
+        assertThat(currentDatabase(true)).containsIgnoringCase("replica");
+        assertThat(currentDatabase(false)).containsIgnoringCase("blogdb");
+        assertThat(jdbcTemplate.queryForObject("SELECT DATABASE()", String.class)).containsIgnoringCase("blogdb");
+    }
+
+    @Test
+    @DisplayName("PostService 조회 메서드는 replica에서 읽음")
+    void serviceReadsFromReplica() {
+        // Given
+        new JdbcTemplate(replicaDataSource).update("""
+                INSERT INTO posts (id, title, content, author, created_at, updated_at)
+                VALUES (999999, 'replica에만 있는 글', '내용', '작성자', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """);
+
+        // When & Then
+        assertThat(postService.getAllPostSummaries())
+                .extracting(PostSummaryResponse::title)
+                .contains("replica에만 있는 글");
+    }
+
+    @Test
+    @DisplayName("캐시를 채우는 단건 조회는 primary에서 읽음")
+    void getPostByIdReadsFromPrimary() {
+        // Given
+        new JdbcTemplate(replicaDataSource).update("""
+                INSERT INTO posts (id, title, content, author, created_at, updated_at)
+                VALUES (999999, 'replica에만 있는 글', '내용', '작성자', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """);
+
+        // When & Then
+        assertThatThrownBy(() -> postService.getPostById(999999L))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기도 primary로, 회복되면 다시 replica로")
+    void fallsBackToPrimaryWhenLagging() {
+        // When
+        replicaLagMonitor.update(60);
+
+        // Then
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(currentDatabase(true)).containsIgnoringCase("blogdb");
+
+        // When
+        replicaLagMonitor.check();
+
+        // Then
+        assertThat(currentDatabase(true)).containsIgnoringCase("replica");
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+}
@@ -0,0 +1,133 @@
+package com.gitfactory.blogapi.jsoncache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gitfactory.blogapi.dto.PostResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostJsonCache 테스트")
+class PostJsonCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final PostJsonCache cache = new PostJsonCache(
+            objectMapper,
+            new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class),
+            DataSize.ofMegabytes(1),
+            Duration.ofMinutes(10),
+            true,
+            DataSize.ofBytes(256),
+            Deflater.DEFAULT_COMPRESSION);
+
+    @Test
+    @DisplayName("캐시된 바이트에 조회수를 끼운 결과가 Jackson 직렬화 결과와 같음")
+    void body_SameAsJackson() throws IOException {
+        // Given
+        PostResponse post = post(3L, "내용에 \"viewCount\":0 문자열 포함");
+
+        for (long viewCount : new long[]{0, 7, 10, 1234567890123L, Long.MAX_VALUE}) {
+            // When
+            PostJsonBody body = cache.body(1L, post, viewCount, false);
+
+            // Then
+            byte[] written = write(body);
+            assertThat(body.isGzip()).isFalse();
+            assertThat(written).isEqualTo(objectMapper.writeValueAsBytes(post.withViewCount(viewCount)));
+            assertThat(body.contentLength()).isEqualTo(written.length);
+        }
+    }
+
+    @Test
+    @DisplayName("gzip 응답을 풀면 Jackson 직렬화 결과와 같음 (조회수마다 CRC/길이 재계산)")
+    void body_Gzip() throws IOException {
+        // Given
+        PostResponse post = post(3L, "긴 내용 ".repeat(500));
+
+        for (long viewCount : new long[]{1, 99, 100_000}) {
+            // When
+            PostJsonBody body = cache.body(1L, post, viewCount, true);
+
+            // Then
+            byte[] written = write(body);
+            assertThat(body.isGzip()).isTrue();
+            assertThat(body.contentLength()).isEqualTo(written.length);
+            assertThat(written.length).isLessThan(objectMapper.writeValueAsBytes(post).length);
+            assertThat(gunzip(written)).isEqualTo(objectMapper.writeValueAsBytes(post.withViewCount(viewCount)));
+        }
+    }
+
+    @Test
+    @DisplayName("최소 크기보다 작은 본문은 gzip을 받을 수 있어도 압축하지 않음")
+    void body_SmallPayload_NotCompressed() throws IOException {
+        // Given
+        PostResponse post = post(3L, "짧은 내용");
+
+        // When
+        PostJsonBody body = cache.body(1L, post, 5, true);
+
+        // Then
+        assertThat(body.isGzip()).isFalse();
+        assertThat(write(body)).isEqualTo(objectMapper.writeValueAsBytes(post.withViewCount(5)));
+    }
+
+    @Test
+    @DisplayName("게시글 버전이 바뀌면 다시 직렬화 (무효화되지 않은 오래된 항목을 쓰지 않음)")
+    void body_VersionChanged_Reencoded() throws IOException {
+        // Given
+        cache.body(1L, post(3L, "이전 내용"), 0, false);
+        PostResponse updated = post(4L, "수정된 내용");
+
+        // When
+        PostJsonBody body = cache.body(1L, updated, 0, false);
+
+        // Then
+        assertThat(write(body)).isEqualTo(objectMapper.writeValueAsBytes(updated));
+    }
+
+    @Test
+    @DisplayName("evict 후에는 다시 직렬화")
+    void evict() throws IOException {
+        // Given
+        PostResponse post = post(3L, "내용");
+        cache.body(1L, post, 0, false);
+
+        // When
+        cache.evict(1L);
+        PostJsonBody body = cache.body(1L, post.withViewCount(2), 2, false);
+
+        // Then
+        assertThat(write(body)).isEqualTo(objectMapper.writeValueAsBytes(post.withViewCount(2)));
+    }
+
+    private static PostResponse post(Long version, String content) {
+        return new PostResponse(1L, "제목", content, "작성자",
+                LocalDateTime.of(2025, 12, 6, 10, 0), LocalDateTime.of(2025, 12, 6, 15, 30, 0, 123_456_000),
+                0L, version);
+    }
+
+    private static byte[] write(PostJsonBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
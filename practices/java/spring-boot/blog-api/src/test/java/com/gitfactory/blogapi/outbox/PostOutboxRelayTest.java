@@ -0,0 +1,224 @@
+package com.gitfactory.blogapi.outbox;
+
+import com.gitfactory.blogapi.dto.PostPatchRequest;
+import com.gitfactory.blogapi.dto.PostRequest;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.exception.PreconditionFailedException;
+import com.gitfactory.blogapi.repository.PostRepository;
+import com.gitfactory.blogapi.service.PostBatchService;
+import com.gitfactory.blogapi.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.willThrow;
+
+/**
+ * outbox 기록/릴레이 테스트
+ *
+ * 다른 테스트 컨텍스트의 릴레이가 outbox를 비우지 않도록 별도 인메모리 DB를 사용하고,
+ * 스케줄러가 끼어들지 않도록 릴레이 주기를 길게 두고 직접 relay()를 호출합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;DB_CLOSE_DELAY=-1",
+        "blog.outbox.relay-interval-ms=3600000",
+        "blog.outbox.batch-size=2",
+        "blog.outbox.max-attempts=3"
+})
+@RecordApplicationEvents
+@DisplayName("PostOutboxRelay 테스트")
+class PostOutboxRelayTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostBatchService postBatchService;
+
+    @Autowired
+    private PostOutboxRelay postOutboxRelay;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @SpyBean
+    private PostChangePublisher postChangePublisher;
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM post_outbox");
+    }
+
+    @Test
+    @DisplayName("생성/수정/부분 수정/삭제 이벤트를 변경 순서대로 발행하고 outbox에서 삭제")
+    void relay_InOrder() {
+        // Given
+        PostResponse created = postService.createPost(new PostRequest("제목", "내용", "작성자"));
+        PostResponse updated = postService.updatePost(created.id(), new PostRequest("수정", "수정 내용", "작성자"));
+        postService.patchPost(created.id(), new PostPatchRequest("부분 수정", null, null), updated.version());
+        postService.deletePost(created.id());
+        assertThat(pendingEvents()).isEqualTo(4);
+
+        // When
+        int published = postOutboxRelay.relay();
+
+        // Then
+        assertThat(published).isEqualTo(4);
+        assertThat(pendingEvents()).isZero();
+        assertThat(publishedEvents())
+                .extracting(PostChangeEvent::postId, PostChangeEvent::type, PostChangeEvent::version)
+                .containsExactly(
+                        tuple(created.id(), PostChangeType.CREATED, created.version()),
+                        tuple(created.id(), PostChangeType.UPDATED, updated.version()),
+                        tuple(created.id(), PostChangeType.UPDATED, updated.version() + 1),
+                        tuple(created.id(), PostChangeType.DELETED, null));
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 이벤트를 남기지 않음")
+    void rolledBackChange_NoEvent() {
+        // Given
+        PostResponse created = postService.createPost(new PostRequest("제목", "내용", "작성자"));
+        postOutboxRelay.relay();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            postService.deletePost(created.id());
+            status.setRollbackOnly();
+        });
+        assertThatThrownBy(() -> postService.deletePost(created.id(), created.version() + 1))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        // Then
+        assertThat(postRepository.existsById(created.id())).isTrue();
+        assertThat(pendingEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 그 게시글은 그 이벤트에서 멈추고 다음 실행에 이어서 발행 (순서 유지)")
+    void publishFailure_RetriedInOrder() {
+        // Given
+        PostResponse created = postService.createPost(new PostRequest("제목", "내용", "작성자"));
+        postService.updatePost(created.id(), new PostRequest("수정", "수정 내용", "작성자"));
+        postService.deletePost(created.id());
+        willThrow(new IllegalStateException("publisher unavailable"))
+                .willCallRealMethod()
+                .given(postChangePublisher).publish(argThat(event -> event.type() == PostChangeType.UPDATED));
+
+        // When
+        int first = postOutboxRelay.relay();
+        int second = postOutboxRelay.relay();
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(pendingEvents()).isZero();
+        assertThat(publishedEvents())
+                .extracting(PostChangeEvent::type)
+                .containsExactly(PostChangeType.CREATED, PostChangeType.UPDATED, PostChangeType.DELETED);
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 게시글이 있어도 다른 게시글의 이벤트는 계속 발행")
+    void publishFailure_OtherPostsContinue() {
+        // Given
+        PostResponse failing = postService.createPost(new PostRequest("실패", "내용", "작성자"));
+        postService.deletePost(failing.id());
+        PostResponse other = postService.createPost(new PostRequest("정상", "내용", "작성자"));
+        willThrow(new IllegalStateException("publisher unavailable"))
+                .willCallRealMethod()
+                .given(postChangePublisher).publish(argThat(event -> event.postId() == failing.id()));
+
+        // When
+        int first = postOutboxRelay.relay();
+        int second = postOutboxRelay.relay();
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(publishedEvents())
+                .extracting(PostChangeEvent::postId, PostChangeEvent::type)
+                .containsExactly(
+                        tuple(other.id(), PostChangeType.CREATED),
+                        tuple(failing.id(), PostChangeType.CREATED),
+                        tuple(failing.id(), PostChangeType.DELETED));
+    }
+
+    @Test
+    @DisplayName("max-attempts번 실패한 이벤트는 보류하고 같은 게시글의 뒤 이벤트를 발행")
+    void publishFailure_ParkedAfterMaxAttempts() {
+        // Given
+        PostResponse created = postService.createPost(new PostRequest("제목", "내용", "작성자"));
+        postService.deletePost(created.id());
+        willThrow(new IllegalStateException("poison event"))
+                .given(postChangePublisher).publish(argThat(event -> event.type() == PostChangeType.CREATED));
+
+        // When
+        int published = 0;
+        for (int i = 0; i < 3; i++) {
+            published += postOutboxRelay.relay();
+        }
+        published += postOutboxRelay.relay();
+
+        // Then
+        assertThat(published).isEqualTo(1);
+        assertThat(publishedEvents())
+                .extracting(PostChangeEvent::type)
+                .containsExactly(PostChangeType.DELETED);
+        assertThat(jdbcTemplate.queryForMap("SELECT event_type, attempts, parked FROM post_outbox"))
+                .containsEntry("EVENT_TYPE", PostChangeType.CREATED.name())
+                .containsEntry("ATTEMPTS", 3)
+                .containsEntry("PARKED", true);
+    }
+
+    @Test
+    @DisplayName("대량 등록 이벤트는 batch-size 단위로 나눠 모두 발행")
+    void relay_MultipleBatches() {
+        // Given
+        postBatchService.createPosts(IntStream.range(0, 5)
+                .mapToObj(i -> new PostRequest("제목" + i, "내용" + i, "작성자"))
+                .toList());
+
+        // When
+        int published = postOutboxRelay.relay();
+
+        // Then
+        assertThat(published).isEqualTo(5);
+        assertThat(publishedEvents())
+                .extracting(PostChangeEvent::type)
+                .containsOnly(PostChangeType.CREATED)
+                .hasSize(5);
+    }
+
+    private List<PostChangeEvent> publishedEvents() {
+        return applicationEvents.stream(PostChangeEvent.class).toList();
+    }
+
+    private int pendingEvents() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_outbox", Integer.class);
+    }
+}
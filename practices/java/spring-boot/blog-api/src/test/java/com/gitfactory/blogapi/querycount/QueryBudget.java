@@ -0,0 +1,19 @@
+package com.gitfactory.blogapi.querycount;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드가 실행할 수 있는 최대 SQL 문 개수
+ *
+ * QueryBudgetExtension과 함께 사용합니다. 준비(Given) 단계의 SQL을 제외하려면
+ * When 단계 직전에 QueryCountHolder.reset()을 호출합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
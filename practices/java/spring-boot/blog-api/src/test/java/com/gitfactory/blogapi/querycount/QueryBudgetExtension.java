@@ -0,0 +1,30 @@
+package com.gitfactory.blogapi.querycount;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * {@link QueryBudget}이 붙은 테스트의 SQL 실행 개수를 검증하는 JUnit 확장
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCountHolder.reset();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        int executed = QueryCountHolder.get();
+        QueryCountHolder.clear();
+
+        QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        if (budget != null && executed > budget.value()) {
+            throw new AssertionFailedError(String.format(
+                    "Expected at most %d SQL statements but %d were executed",
+                    budget.value(), executed), budget.value(), executed);
+        }
+    }
+}
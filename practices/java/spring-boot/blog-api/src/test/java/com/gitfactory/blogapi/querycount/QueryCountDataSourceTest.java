@@ -0,0 +1,72 @@
+package com.gitfactory.blogapi.querycount;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryCountDataSource 테스트")
+class QueryCountDataSourceTest {
+
+    private QueryCountDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new QueryCountDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:querycount;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE items (id BIGINT PRIMARY KEY)");
+        QueryCountHolder.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        QueryCountHolder.clear();
+    }
+
+    @Test
+    @DisplayName("Statement/PreparedStatement 실행마다 1개씩 집계")
+    void countsEachExecution() {
+        // When
+        jdbcTemplate.update("INSERT INTO items (id) VALUES (?)", 1L);
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class);
+        jdbcTemplate.execute("DELETE FROM items");
+
+        // Then
+        assertThat(QueryCountHolder.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("JDBC 배치는 건수와 관계없이 executeBatch 1회를 1개로 집계")
+    void countsBatchOnce() {
+        // When
+        jdbcTemplate.batchUpdate("INSERT INTO items (id) VALUES (?)",
+                List.of(new Object[]{1L}, new Object[]{2L}, new Object[]{3L}));
+
+        // Then
+        assertThat(QueryCountHolder.get()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Statement 준비만 하고 실행하지 않으면 집계하지 않고, 프록시 커넥션은 자기 자신과 같음")
+    void preparedOnly_NotCounted() throws Exception {
+        // When
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("SELECT 1").close();
+
+            // Then
+            assertThat(connection).isEqualTo(connection);
+            assertThat(QueryCountHolder.get()).isZero();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.gitfactory.blogapi.querycount;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("요청별 SQL 개수 집계 테스트")
+class QueryCountFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("응답 헤더에 요청 중 실행된 SQL 개수가 포함됨")
+    void queryCountHeader() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/posts").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.HEADER_NAME, "1"));
+    }
+
+    @Test
+    @DisplayName("Hibernate를 거치지 않는 JdbcTemplate SQL도 집계됨")
+    void jdbcTemplateStatementsCounted() {
+        // Given
+        QueryCountHolder.reset();
+
+        // When
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_outbox", Long.class);
+
+        // Then
+        assertThat(QueryCountHolder.get()).isEqualTo(1);
+        QueryCountHolder.clear();
+    }
+}
@@ -0,0 +1,34 @@
+package com.gitfactory.blogapi.querycount;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate가 실제로 생성한 SQL을 기록하는 테스트용 StatementInspector
+ *
+ * 현재 스레드에서 준비된 SQL 문을 순서대로 보관합니다 (개수 집계는 QueryCountDataSource가 따로 담당).
+ * 테스트에서 hibernate.session_factory.statement_inspector 속성으로 이 클래스를 지정해 사용합니다.
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    /**
+     * 기록된 SQL 문 목록 (준비된 순서)
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    public static void clear() {
+        STATEMENTS.remove();
+    }
+}
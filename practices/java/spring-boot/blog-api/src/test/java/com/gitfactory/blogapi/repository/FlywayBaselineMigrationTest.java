@@ -0,0 +1,95 @@
+package com.gitfactory.blogapi.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기준선(baseline) 마이그레이션 테스트
+ *
+ * Flyway 도입 전에 Hibernate(ddl-auto=update)로 만든 스키마에서 시작하면 V1을 기준선으로 건너뛰므로,
+ * V1 이후 엔티티에 추가된 컬럼을 이후 마이그레이션이 채워주는지 확인합니다.
+ */
+@DisplayName("Flyway 기준선 마이그레이션 테스트")
+class FlywayBaselineMigrationTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:baseline;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 엔티티에 조회수/버전이 생기기 전 Hibernate가 만든 스키마 (IDENTITY, view_count/version 없음)
+        jdbcTemplate.execute("""
+                CREATE TABLE posts (
+                    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                    title      VARCHAR(200) NOT NULL,
+                    content    TEXT         NOT NULL,
+                    author     VARCHAR(50)  NOT NULL,
+                    created_at TIMESTAMP(6) NOT NULL,
+                    updated_at TIMESTAMP(6) NOT NULL,
+                    PRIMARY KEY (id)
+                )
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO posts (title, content, author, created_at, updated_at)
+                VALUES ('기존 제목', '기존 내용', '기존 작성자', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("V1을 건너뛴 기존 스키마에도 view_count/version 컬럼이 추가되고 기존 행은 0으로 채워진다")
+    void baselinedSchema_AddsViewCountAndVersion() {
+        // Given
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .load();
+
+        // When
+        flyway.migrate();
+
+        // Then
+        assertThat(flyway.info().current().getVersion()).isGreaterThanOrEqualTo(MigrationVersion.fromVersion("7"));
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT view_count, version FROM posts WHERE title = '기존 제목'");
+        assertThat(row).containsEntry("VIEW_COUNT", 0L).containsEntry("VERSION", 0L);
+    }
+
+    @Test
+    @DisplayName("새 스키마에 V1부터 적용해도 V7이 이미 있는 컬럼 때문에 실패하지 않는다")
+    void emptySchema_MigratesThroughV7() {
+        // Given
+        jdbcTemplate.execute("DROP TABLE posts");
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/h2")
+                .load();
+
+        // When
+        flyway.migrate();
+
+        // Then
+        assertThat(flyway.info().current().getVersion()).isGreaterThanOrEqualTo(MigrationVersion.fromVersion("7"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = 'POSTS' "
+                        + "AND COLUMN_NAME IN ('VIEW_COUNT', 'VERSION')", Integer.class)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,132 @@
+package com.gitfactory.blogapi.repository;
+
+import com.gitfactory.blogapi.querycount.SqlCaptureInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인덱스 사용 여부 확인 (H2 EXPLAIN)
+ *
+ * Flyway 마이그레이션으로 만든 스키마에서, 작성자 조회 쿼리가
+ * 테이블 전체를 읽지 않고 idx_posts_author_created_at 인덱스를 사용하는지 실행 계획으로 확인합니다.
+ * 직접 작성한 SQL이 아니라 PostRepository 호출 시 Hibernate가 생성한 SQL을 기록해서(SqlCaptureInspector)
+ * 같은 파라미터를 바인딩한 EXPLAIN으로 확인하므로, JPQL이나 방언이 바뀌어도 실제 쿼리를 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.gitfactory.blogapi.querycount.SqlCaptureInspector")
+@DisplayName("posts 인덱스 실행 계획 테스트")
+class PostIndexExplainTest {
+
+    private static final String AUTHOR_INDEX = "IDX_POSTS_AUTHOR_CREATED_AT";
+    private static final String AUTHOR = "작성자7";
+    private static final int LIMIT = 21;
+    private static final LocalDateTime CURSOR_CREATED_AT = LocalDateTime.of(2025, 12, 6, 20, 0);
+    private static final long CURSOR_ID = 500L;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 옵티마이저가 선택도를 판단할 수 있도록 작성자 100명 x 10건을 넣고 통계 갱신
+        LocalDateTime base = LocalDateTime.of(2025, 12, 6, 10, 0);
+        List<Object[]> rows = IntStream.range(0, 1000)
+                .mapToObj(i -> new Object[]{
+                        (long) i + 1, "제목" + i, "내용" + i, "작성자" + (i % 100),
+                        Timestamp.valueOf(base.plusMinutes(i)), Timestamp.valueOf(base.plusMinutes(i))})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO posts (id, title, content, author, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, rows);
+        jdbcTemplate.execute("ANALYZE");
+        SqlCaptureInspector.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlCaptureInspector.clear();
+    }
+
+    @Test
+    @DisplayName("작성자 첫 페이지 조회는 (author, created_at, id) 인덱스 사용")
+    void authorFirstPageUsesIndex() {
+        // When
+        postRepository.findByAuthorFirstPage(AUTHOR, firstPage());
+        String plan = explainCaptured(AUTHOR, LIMIT);
+
+        // Then
+        assertThat(plan).containsIgnoringCase(AUTHOR_INDEX);
+    }
+
+    @Test
+    @DisplayName("작성자 커서 이후 페이지 조회도 같은 인덱스 사용")
+    void authorPageAfterUsesIndex() {
+        // When
+        postRepository.findByAuthorPageAfter(AUTHOR, CURSOR_CREATED_AT, CURSOR_ID, firstPage());
+        String plan = explainCaptured(AUTHOR, cursorTimestamp(), cursorTimestamp(), CURSOR_ID, LIMIT);
+
+        // Then
+        assertThat(plan).containsIgnoringCase(AUTHOR_INDEX);
+    }
+
+    @Test
+    @DisplayName("작성자 요약 첫 페이지 조회도 같은 인덱스 사용")
+    void authorSummaryFirstPageUsesIndex() {
+        // When
+        postRepository.findSummariesByAuthorFirstPage(AUTHOR, firstPage());
+        String plan = explainCaptured(AUTHOR, LIMIT);
+
+        // Then
+        assertThat(plan).containsIgnoringCase(AUTHOR_INDEX);
+    }
+
+    @Test
+    @DisplayName("작성자 요약 커서 이후 페이지 조회도 같은 인덱스 사용")
+    void authorSummaryPageAfterUsesIndex() {
+        // When
+        postRepository.findSummariesByAuthorPageAfter(AUTHOR, CURSOR_CREATED_AT, CURSOR_ID, firstPage());
+        String plan = explainCaptured(AUTHOR, cursorTimestamp(), cursorTimestamp(), CURSOR_ID, LIMIT);
+
+        // Then
+        assertThat(plan).containsIgnoringCase(AUTHOR_INDEX);
+    }
+
+    private static Pageable firstPage() {
+        return PageRequest.of(0, LIMIT);
+    }
+
+    private static Timestamp cursorTimestamp() {
+        return Timestamp.valueOf(CURSOR_CREATED_AT);
+    }
+
+    /**
+     * 마지막으로 기록된 SQL을 같은 파라미터(SQL에 나타나는 순서)로 EXPLAIN
+     */
+    private String explainCaptured(Object... params) {
+        List<String> statements = SqlCaptureInspector.statements();
+        assertThat(statements).as("captured SQL").isNotEmpty();
+        String sql = statements.get(statements.size() - 1);
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("bind parameters of %s", sql)
+                .isEqualTo(params.length);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, params));
+    }
+}
@@ -1,10 +1,17 @@
 package com.gitfactory.blogapi.repository;
 
 import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.querycount.QueryBudget;
+import com.gitfactory.blogapi.querycount.QueryBudgetExtension;
+import com.gitfactory.blogapi.querycount.QueryCountDataSourceConfig;
+import com.gitfactory.blogapi.querycount.QueryCountHolder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +19,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(QueryCountDataSourceConfig.class)
+@ExtendWith(QueryBudgetExtension.class)
 @DisplayName("PostRepository 테스트")
 class PostRepositoryTest {
 
@@ -177,4 +186,152 @@ class PostRepositoryTest {
         assertThat(hwanPosts).hasSize(2);
         assertThat(hwanPosts).allMatch(post -> post.getAuthor().equals("Hwan"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 기반 페이지 조회 테스트")
+    void findPageAfter() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            postRepository.save(Post.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .author("작성자")
+                    .build());
+        }
+
+        // When
+        List<Post> firstPage = postRepository.findFirstPage(PageRequest.ofSize(3));
+        Post last = firstPage.get(firstPage.size() - 1);
+        List<Post> secondPage = postRepository.findPageAfter(
+                last.getCreatedAt(), last.getId(), PageRequest.ofSize(3));
+
+        // Then
+        assertThat(firstPage).hasSize(3);
+        assertThat(secondPage).hasSize(2);
+        assertThat(firstPage).extracting(Post::getTitle)
+                .doesNotContainAnyElementsOf(secondPage.stream().map(Post::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("작성자로 포스트 요약 검색 테스트")
+    void findSummariesByAuthor() {
+        // Given
+        postRepository.save(Post.builder()
+                .title("제목1")
+                .content("본문은 요약에 포함되지 않음")
+                .author("Hwan")
+                .build());
+
+        // When
+        List<PostSummary> summaries = postRepository.findSummariesByAuthor("Hwan");
+
+        // Then
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getTitle()).isEqualTo("제목1");
+        assertThat(summaries.get(0).getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("작성자 커서 페이지 조회 - 해당 작성자의 게시글만 최신순으로 이어서 조회")
+    void findByAuthorPageAfter() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            postRepository.save(Post.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .author(i % 2 == 0 ? "다른 작성자" : "작성자")
+                    .build());
+        }
+
+        // When
+        List<PostSummary> firstPage = postRepository.findSummariesByAuthorFirstPage("작성자", PageRequest.ofSize(2));
+        PostSummary last = firstPage.get(firstPage.size() - 1);
+        List<PostSummary> secondPage = postRepository.findSummariesByAuthorPageAfter(
+                "작성자", last.getCreatedAt(), last.getId(), PageRequest.ofSize(2));
+
+        // Then
+        assertThat(firstPage).extracting(PostSummary::getTitle).containsExactly("제목5", "제목3");
+        assertThat(secondPage).extracting(PostSummary::getTitle).containsExactly("제목1");
+    }
+
+    @Test
+    @QueryBudget(1)
+    @DisplayName("요약 첫 페이지 조회는 SELECT 1회")
+    void findSummaryFirstPage_SingleQuery() {
+        // Given
+        for (int i = 1; i <= 3; i++) {
+            postRepository.save(Post.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .author("작성자")
+                    .build());
+        }
+        postRepository.flush();
+        QueryCountHolder.reset();
+
+        // When
+        List<PostSummary> summaries = postRepository.findSummaryFirstPage(PageRequest.ofSize(2));
+
+        // Then
+        assertThat(summaries).hasSize(2);
+    }
+
+    @Test
+    @QueryBudget(1)
+    @DisplayName("ID 목록으로 요약 조회는 SELECT 1회")
+    void findSummariesByIdIn_SingleQuery() {
+        // Given
+        Post post1 = postRepository.save(Post.builder().title("제목1").content("내용1").author("작성자").build());
+        Post post2 = postRepository.save(Post.builder().title("제목2").content("내용2").author("작성자").build());
+        postRepository.flush();
+        QueryCountHolder.reset();
+
+        // When
+        List<PostSummary> summaries = postRepository.findSummariesByIdIn(List.of(post1.getId(), post2.getId()));
+
+        // Then
+        assertThat(summaries).hasSize(2);
+    }
+
+    @Test
+    @QueryBudget(1)
+    @DisplayName("ID로 삭제 - DELETE 1회로 삭제된 행 수 반환")
+    void deletePostById() {
+        // Given
+        Post savedPost = postRepository.saveAndFlush(Post.builder()
+                .title("삭제할 제목")
+                .content("삭제할 내용")
+                .author("작성자")
+                .build());
+        QueryCountHolder.reset();
+
+        // When
+        int deleted = postRepository.deletePostById(savedPost.getId(), null);
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("부분 수정 - null인 필드는 기존 값 유지, 버전 증가")
+    void patch() {
+        // Given
+        Post savedPost = postRepository.saveAndFlush(Post.builder()
+                .title("원본 제목")
+                .content("원본 내용")
+                .author("작성자")
+                .build());
+        Long version = savedPost.getVersion();
+
+        // When
+        savedPost.patch("수정된 제목", null, null);
+        postRepository.flush();
+
+        // Then
+        Post patched = postRepository.findById(savedPost.getId()).orElseThrow();
+        assertThat(patched.getTitle()).isEqualTo("수정된 제목");
+        assertThat(patched.getContent()).isEqualTo("원본 내용");
+        assertThat(patched.getAuthor()).isEqualTo("작성자");
+        assertThat(patched.getVersion()).isEqualTo(version + 1);
+    }
+}
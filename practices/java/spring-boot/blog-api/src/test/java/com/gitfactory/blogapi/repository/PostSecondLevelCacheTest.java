@@ -0,0 +1,201 @@
+package com.gitfactory.blogapi.repository;
+
+import com.gitfactory.blogapi.config.CacheConfig;
+import com.gitfactory.blogapi.dto.PostPatchRequest;
+import com.gitfactory.blogapi.dto.PostRequest;
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.querycount.QueryCountHolder;
+import com.gitfactory.blogapi.service.PostService;
+import com.gitfactory.blogapi.viewcount.ViewCountBuffer;
+import com.gitfactory.blogapi.viewcount.ViewCountFlusher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 테스트
+ *
+ * 실행된 SQL 개수(QueryCountHolder)로 캐시 히트 여부를 확인합니다.
+ * 엔티티 조회는 서비스의 단건 캐시(posts)를 거치지 않도록 Repository로 직접 합니다.
+ */
+@SpringBootTest(properties = "blog.view-count.flush-interval-ms=3600000")
+@DisplayName("Post 2차 캐시 테스트")
+class PostSecondLevelCacheTest {
+
+    private static final Pageable AUTHOR_PAGE = PageRequest.ofSize(21);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private ViewCountFlusher viewCountFlusher;
+
+    private Statistics statistics;
+    private Post savedPost;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.POSTS_CACHE).clear();
+        viewCountBuffer.drain();
+        savedPost = postRepository.saveAndFlush(Post.builder()
+                .title("캐시 제목")
+                .content("캐시 내용")
+                .author("캐시작성자")
+                .build());
+        // 저장 시 캐시에 들어간 항목을 비우고 DB 조회부터 시작
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        QueryCountHolder.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 ID를 반복 조회하면 두 번째부터 SQL 없음")
+    void findById_Cached() {
+        // When
+        postRepository.findById(savedPost.getId());
+        int first = QueryCountHolder.get();
+        QueryCountHolder.reset();
+        Post cached = postRepository.findById(savedPost.getId()).orElseThrow();
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(QueryCountHolder.get()).isZero();
+        assertThat(cached.getTitle()).isEqualTo("캐시 제목");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작성자 첫 페이지를 반복 조회하면 두 번째부터 SQL 없음 (쿼리 캐시 + 엔티티 캐시)")
+    void findByAuthorFirstPage_Cached() {
+        // When
+        postRepository.findByAuthorFirstPage("캐시작성자", AUTHOR_PAGE);
+        QueryCountHolder.reset();
+        List<Post> posts = postRepository.findByAuthorFirstPage("캐시작성자", AUTHOR_PAGE);
+
+        // Then
+        assertThat(QueryCountHolder.get()).isZero();
+        assertThat(posts).extracting(Post::getTitle).containsExactly("캐시 제목");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수정하면 캐시된 엔티티와 쿼리 결과가 갱신됨")
+    void updatePost_Invalidates() {
+        // Given
+        postRepository.findById(savedPost.getId());
+        postRepository.findByAuthorFirstPage("캐시작성자", AUTHOR_PAGE);
+
+        // When
+        postService.updatePost(savedPost.getId(), new PostRequest("수정된 제목", "수정된 내용", "새작성자"));
+
+        // Then
+        assertThat(postRepository.findById(savedPost.getId()).orElseThrow().getTitle()).isEqualTo("수정된 제목");
+        assertThat(postRepository.findByAuthorFirstPage("캐시작성자", AUTHOR_PAGE)).isEmpty();
+        assertThat(postRepository.findByAuthorFirstPage("새작성자", AUTHOR_PAGE))
+                .extracting(Post::getTitle).containsExactly("수정된 제목");
+        assertThat(postService.getPostById(savedPost.getId()).title()).isEqualTo("수정된 제목");
+    }
+
+    @Test
+    @DisplayName("부분 수정하면 캐시된 엔티티가 갱신됨")
+    void patchPost_Invalidates() {
+        // Given
+        postRepository.findById(savedPost.getId());
+
+        // When
+        postService.patchPost(savedPost.getId(), new PostPatchRequest("부분 수정 제목", null, null));
+
+        // Then
+        Post result = postRepository.findById(savedPost.getId()).orElseThrow();
+        assertThat(result.getTitle()).isEqualTo("부분 수정 제목");
+        assertThat(result.getVersion()).isEqualTo(savedPost.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("부분 수정해도 다른 게시글의 캐시 항목은 그대로 남음")
+    void patchPost_KeepsOtherEntries() {
+        // Given
+        Post other = postRepository.saveAndFlush(Post.builder()
+                .title("다른 제목")
+                .content("다른 내용")
+                .author("다른작성자")
+                .build());
+        entityManagerFactory.getCache().evictAll();
+        postRepository.findById(savedPost.getId());
+        postRepository.findById(other.getId());
+
+        // When
+        postService.patchPost(savedPost.getId(), new PostPatchRequest("부분 수정 제목", null, null));
+        QueryCountHolder.reset();
+        Post cached = postRepository.findById(other.getId()).orElseThrow();
+
+        // Then
+        assertThat(QueryCountHolder.get()).isZero();
+        assertThat(cached.getTitle()).isEqualTo("다른 제목");
+        assertThat(entityManagerFactory.getCache().contains(Post.class, other.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("삭제하면 캐시된 엔티티와 쿼리 결과에서 제외됨")
+    void deletePost_Invalidates() {
+        // Given
+        postRepository.findById(savedPost.getId());
+        postRepository.findByAuthorFirstPage("캐시작성자", AUTHOR_PAGE);
+
+        // When
+        postService.deletePost(savedPost.getId());
+
+        // Then
+        assertThat(postRepository.findById(savedPost.getId())).isEmpty();
+        assertThat(postRepository.findByAuthorFirstPage("캐시작성자", AUTHOR_PAGE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회수 반영(JDBC UPDATE) 시 캐시된 엔티티를 다시 적재해 이후 조회는 SQL 없이 반영된 값을 읽음")
+    void viewCountFlush_Reloads() {
+        // Given
+        postRepository.findById(savedPost.getId());
+        viewCountBuffer.increment(savedPost.getId());
+        viewCountBuffer.increment(savedPost.getId());
+
+        // When
+        viewCountFlusher.flush();
+        QueryCountHolder.reset();
+        Post result = postRepository.findById(savedPost.getId()).orElseThrow();
+
+        // Then
+        assertThat(result.getViewCount()).isEqualTo(2);
+        assertThat(QueryCountHolder.get()).isZero();
+    }
+}
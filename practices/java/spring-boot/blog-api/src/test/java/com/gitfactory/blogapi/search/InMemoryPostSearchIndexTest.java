@@ -0,0 +1,165 @@
+package com.gitfactory.blogapi.search;
+
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("InMemoryPostSearchIndex 테스트")
+class InMemoryPostSearchIndexTest {
+
+    private InMemoryPostSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new InMemoryPostSearchIndex(mock(PostRepository.class));
+    }
+
+    @Test
+    @DisplayName("제목과 본문 모두 검색 대상")
+    void searchTitleAndContent() {
+        // Given
+        searchIndex.index(post(1L, "Spring Boot 입문", "JPA 설정 방법"));
+        searchIndex.index(post(2L, "JPA 심화", "영속성 컨텍스트"));
+
+        // When
+        SearchHits hits = searchIndex.search("jpa", 0, 10);
+
+        // Then
+        assertThat(hits.totalHits()).isEqualTo(2);
+        assertThat(hits.postIds()).containsExactly(2L, 1L);  // 제목 일치가 우선
+    }
+
+    @Test
+    @DisplayName("여러 검색어는 모두 포함한 게시글만 반환")
+    void searchAllTerms() {
+        // Given
+        searchIndex.index(post(1L, "Spring Boot", "테스트 작성"));
+        searchIndex.index(post(2L, "Spring Data", "쿼리 메서드"));
+
+        // When
+        SearchHits hits = searchIndex.search("spring 테스트", 0, 10);
+
+        // Then
+        assertThat(hits.postIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 한글 어절도 검색됨 (스프링 → 스프링을)")
+    void searchKoreanWithParticle() {
+        // Given
+        searchIndex.index(post(1L, "스프링을 배우는 방법", "입문자를 위한 정리"));
+        searchIndex.index(post(2L, "JPA 입문", "스프링에서 영속성 컨텍스트 다루기"));
+        searchIndex.index(post(3L, "프링글스 후기", "과자"));
+
+        // When
+        SearchHits hits = searchIndex.search("스프링", 0, 10);
+
+        // Then
+        assertThat(hits.postIds()).containsExactly(1L, 2L);  // 제목 일치가 우선, "프링"만 포함한 글은 제외
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 인덱스에 반영됨")
+    void updateAndRemove() {
+        // Given
+        searchIndex.index(post(1L, "원본 제목", "원본 내용"));
+
+        // When
+        searchIndex.index(post(1L, "수정된 제목", "수정된 내용"));
+
+        // Then
+        assertThat(searchIndex.search("원본", 0, 10).postIds()).isEmpty();
+        assertThat(searchIndex.search("수정된", 0, 10).postIds()).containsExactly(1L);
+
+        // When
+        searchIndex.remove(1L);
+
+        // Then
+        assertThat(searchIndex.search("수정된", 0, 10).totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("부분 수정 시 전달한 필드만 다시 인덱싱")
+    void partialUpdate() {
+        // Given
+        searchIndex.index(post(1L, "원본 제목", "본문 유지"));
+
+        // When
+        searchIndex.update(1L, "수정된 제목", null);
+
+        // Then
+        assertThat(searchIndex.search("원본", 0, 10).postIds()).isEmpty();
+        assertThat(searchIndex.search("수정된", 0, 10).postIds()).containsExactly(1L);
+        assertThat(searchIndex.search("유지", 0, 10).postIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("페이지 단위로 결과 반환")
+    void pagination() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            searchIndex.index(post(id, "공통 제목 " + id, "내용"));
+        }
+
+        // When
+        SearchHits secondPage = searchIndex.search("공통", 1, 2);
+
+        // Then
+        assertThat(secondPage.totalHits()).isEqualTo(5);
+        assertThat(secondPage.hits()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("page * size가 int 범위를 넘는 페이지는 빈 결과")
+    void pagination_Overflow() {
+        // Given
+        searchIndex.index(post(1L, "공통 제목", "내용"));
+
+        // When
+        SearchHits hits = searchIndex.search("공통", Integer.MAX_VALUE / 10, 100);
+
+        // Then
+        assertThat(hits.totalHits()).isEqualTo(1);
+        assertThat(hits.hits()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재가 읽어둔 게시글이 적재 도중 삭제되면 다시 등록하지 않음")
+    void warmUp_SkipsPostsRemovedWhileLoading() {
+        // Given
+        PostRepository postRepository = mock(PostRepository.class);
+        InMemoryPostSearchIndex index = new InMemoryPostSearchIndex(postRepository);
+        given(postRepository.findFirstPage(any())).willAnswer(invocation -> {
+            List<Post> page = List.of(post(1L, "삭제될 게시글", "내용"), post(2L, "남을 게시글", "내용"));
+            index.remove(1L);  // 행을 읽은 직후 다른 요청이 삭제를 커밋
+            return page;
+        });
+        given(postRepository.findPageAfter(any(), any(), any())).willReturn(List.of());
+
+        // When
+        index.warmUp();
+
+        // Then
+        assertThat(index.search("게시글", 0, 10).postIds()).containsExactly(2L);
+    }
+
+    private static Post post(Long id, String title, String content) {
+        Post post = Post.builder()
+                .title(title)
+                .content(content)
+                .author("작성자")
+                .build();
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
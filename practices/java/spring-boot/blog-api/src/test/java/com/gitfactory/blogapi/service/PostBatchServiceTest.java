@@ -0,0 +1,89 @@
+package com.gitfactory.blogapi.service;
+
+import com.gitfactory.blogapi.dto.BatchCreateResponse;
+import com.gitfactory.blogapi.dto.BatchItemResult;
+import com.gitfactory.blogapi.dto.PostRequest;
+import com.gitfactory.blogapi.exception.InvalidRequestException;
+import com.gitfactory.blogapi.querycount.QueryCountHolder;
+import com.gitfactory.blogapi.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "blog.batch.chunk-size=10")
+@DisplayName("PostBatchService 테스트")
+class PostBatchServiceTest {
+
+    @Autowired
+    private PostBatchService postBatchService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 chunk에 걸친 대량 등록 - 잘못된 항목만 실패")
+    void createPosts_PartialFailure() {
+        // Given
+        List<PostRequest> requests = new ArrayList<>(IntStream.range(0, 25)
+                .mapToObj(i -> new PostRequest("제목" + i, "내용" + i, "작성자"))
+                .toList());
+        requests.set(3, new PostRequest(" ", "제목 없음", "작성자"));
+
+        // When
+        BatchCreateResponse response = postBatchService.createPosts(requests);
+
+        // Then
+        assertThat(response.total()).isEqualTo(25);
+        assertThat(response.succeeded()).isEqualTo(24);
+        assertThat(response.failed()).isEqualTo(1);
+        assertThat(response.results().get(3).status()).isEqualTo(BatchItemResult.Status.FAILED);
+        assertThat(response.results().get(3).error()).isEqualTo("title is required");
+        assertThat(response.results().get(4).id()).isNotNull();
+        assertThat(postRepository.count()).isEqualTo(24);
+    }
+
+    @Test
+    @DisplayName("chunk 내부의 INSERT는 JDBC 배치로 전송 - SQL 실행 횟수가 건수와 무관")
+    void createPosts_BatchesInserts() {
+        // Given
+        List<PostRequest> requests = IntStream.range(0, 10)
+                .mapToObj(i -> new PostRequest("제목" + i, "내용" + i, "작성자"))
+                .toList();
+        QueryCountHolder.reset();
+
+        // When
+        BatchCreateResponse response = postBatchService.createPosts(requests);
+
+        // Then
+        assertThat(response.succeeded()).isEqualTo(10);
+        // 시퀀스 조회(pooled, 최대 2회) + 배치 INSERT 1회 + outbox 배치 INSERT 1회 (배치가 아니면 INSERT만 20회)
+        assertThat(QueryCountHolder.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘으면 거부")
+    void createPosts_TooLarge() {
+        // Given
+        List<PostRequest> requests = Collections.nCopies(
+                PostBatchService.MAX_BATCH_SIZE + 1, new PostRequest("제목", "내용", "작성자"));
+
+        // When & Then
+        assertThatThrownBy(() -> postBatchService.createPosts(requests))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
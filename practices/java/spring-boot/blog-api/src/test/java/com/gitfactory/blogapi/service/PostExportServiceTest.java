@@ -0,0 +1,54 @@
+package com.gitfactory.blogapi.service;
+
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("PostExportService 테스트")
+class PostExportServiceTest {
+
+    @Autowired
+    private PostExportService postExportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("전체 게시글을 한 줄에 하나씩 JSON으로 출력")
+    void exportAsNdjson() throws Exception {
+        // Given
+        postRepository.saveAll(IntStream.range(0, 3)
+                .mapToObj(i -> Post.builder()
+                        .title("제목" + i)
+                        .content("한글 본문 " + i)
+                        .author("작성자")
+                        .build())
+                .toList());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        long count = postExportService.exportAsNdjson(outputStream);
+
+        // Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"id\":").contains("\"title\":\"제목0\"", "한글 본문 0");
+    }
+}
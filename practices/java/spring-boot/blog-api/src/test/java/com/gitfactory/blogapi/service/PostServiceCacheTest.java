@@ -0,0 +1,90 @@
+package com.gitfactory.blogapi.service;
+
+import com.gitfactory.blogapi.config.CacheConfig;
+import com.gitfactory.blogapi.dto.PostRequest;
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@DisplayName("PostService 캐시 테스트")
+class PostServiceCacheTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private PostRepository postRepository;
+
+    private Post testPost;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.POSTS_CACHE).clear();
+        testPost = Post.builder()
+                .title("캐시 제목")
+                .content("캐시 내용")
+                .author("작성자")
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 ID를 반복 조회하면 DB는 한 번만 조회")
+    void getPostById_Cached() {
+        // Given
+        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+
+        // When
+        postService.getPostById(1L);
+        postService.getPostById(1L);
+
+        // Then
+        verify(postRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("수정하면 해당 ID의 캐시가 무효화됨")
+    void updatePost_EvictsCache() {
+        // Given
+        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+        postService.getPostById(1L);
+
+        // When
+        postService.updatePost(1L, new PostRequest("수정된 제목", "수정된 내용", "작성자"));
+
+        // Then
+        assertThat(cacheManager.getCache(CacheConfig.POSTS_CACHE).get(1L)).isNull();
+        assertThat(postService.getPostById(1L).title()).isEqualTo("수정된 제목");
+    }
+
+    @Test
+    @DisplayName("삭제하면 해당 ID의 캐시가 무효화됨")
+    void deletePost_EvictsCache() {
+        // Given
+        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+        given(postRepository.deletePostById(1L, null)).willReturn(1);
+        postService.getPostById(1L);
+
+        // When
+        postService.deletePost(1L);
+
+        // Then
+        assertThat(cacheManager.getCache(CacheConfig.POSTS_CACHE).get(1L)).isNull();
+    }
+}
@@ -0,0 +1,158 @@
+package com.gitfactory.blogapi.service;
+
+import com.gitfactory.blogapi.config.CacheConfig;
+import com.gitfactory.blogapi.dto.PostRequest;
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.exception.PreconditionFailedException;
+import com.gitfactory.blogapi.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 수정 테스트 (낙관적 락)
+ *
+ * 여러 스레드가 같은 게시글을 동시에 수정해도 커밋된 수정이 유실되지 않는지 확인합니다.
+ * 행 잠금(SELECT ... FOR UPDATE) 없이 version 비교로만 충돌을 감지합니다.
+ */
+@SpringBootTest
+@DisplayName("PostService 동시 수정 테스트")
+class PostServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 10;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Post savedPost;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.POSTS_CACHE).clear();
+        savedPost = postRepository.saveAndFlush(Post.builder()
+                .title("원본 제목")
+                .content("원본 내용")
+                .author("작성자")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("동시 수정 - 성공한 수정 수만큼 버전이 증가 (유실된 수정 없음)")
+    void updatePost_Concurrent() throws Exception {
+        // Given
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+
+        // When
+        runConcurrently(thread -> () -> {
+            for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                try {
+                    postService.updatePost(savedPost.getId(),
+                            new PostRequest("제목-" + thread + "-" + i, "내용-" + thread + "-" + i, "작성자"));
+                    succeeded.incrementAndGet();
+                } catch (OptimisticLockingFailureException e) {
+                    conflicted.incrementAndGet();
+                }
+            }
+            return null;
+        });
+
+        // Then
+        Post result = postRepository.findById(savedPost.getId()).orElseThrow();
+        assertThat(succeeded.get() + conflicted.get()).isEqualTo(THREADS * UPDATES_PER_THREAD);
+        assertThat(succeeded.get()).isPositive();
+        assertThat(result.getVersion()).isEqualTo(savedPost.getVersion() + succeeded.get());
+        // 제목과 본문은 항상 같은 요청에서 온 값 (필드가 섞이지 않음)
+        assertThat(result.getContent()).isEqualTo(result.getTitle().replace("제목-", "내용-"));
+    }
+
+    @Test
+    @DisplayName("동시 조건부 수정 - 같은 버전으로는 하나만 성공하고 나머지는 412")
+    void updatePost_ConcurrentWithExpectedVersion() throws Exception {
+        // Given
+        Long version = savedPost.getVersion();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger preconditionFailed = new AtomicInteger();
+
+        // When
+        runConcurrently(thread -> () -> {
+            try {
+                postService.updatePost(savedPost.getId(),
+                        new PostRequest("제목-" + thread, "내용-" + thread, "작성자"), version);
+                succeeded.incrementAndGet();
+            } catch (PreconditionFailedException e) {
+                preconditionFailed.incrementAndGet();
+            }
+            return null;
+        });
+
+        // Then
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(preconditionFailed.get()).isEqualTo(THREADS - 1);
+        assertThat(postRepository.findById(savedPost.getId()).orElseThrow().getVersion())
+                .isEqualTo(version + 1);
+    }
+
+    /**
+     * 모든 스레드를 준비시킨 뒤 동시에 출발시키고, 작업 중 예상하지 못한 예외가 있으면 그대로 던집니다.
+     */
+    private void runConcurrently(IntFunction<Callable<Void>> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            IntStream.range(0, THREADS).forEach(thread -> {
+                Callable<Void> work = task.apply(thread);
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return work.call();
+                }));
+            });
+            ready.await();
+            start.countDown();
+            for (Future<Void> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    throw (Exception) e.getCause();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
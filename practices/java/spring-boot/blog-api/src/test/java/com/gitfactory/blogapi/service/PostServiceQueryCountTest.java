@@ -0,0 +1,99 @@
+package com.gitfactory.blogapi.service;
+
+import com.gitfactory.blogapi.config.CacheConfig;
+import com.gitfactory.blogapi.dto.PostPatchRequest;
+import com.gitfactory.blogapi.dto.PostRequest;
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.querycount.QueryBudget;
+import com.gitfactory.blogapi.querycount.QueryBudgetExtension;
+import com.gitfactory.blogapi.querycount.QueryCountHolder;
+import com.gitfactory.blogapi.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+/**
+ * PostService 메서드별 SQL 실행 개수 예산 테스트
+ *
+ * 실제 DB(H2)를 사용하며, 예산을 넘으면 QueryBudgetExtension이 테스트를 실패시킵니다.
+ * 쓰기 메서드는 같은 트랜잭션에서 outbox INSERT(PostChangeOutbox, JdbcTemplate) 1회가 더해집니다.
+ */
+@SpringBootTest
+@ExtendWith(QueryBudgetExtension.class)
+@DisplayName("PostService SQL 개수 테스트")
+class PostServiceQueryCountTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Post savedPost;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.POSTS_CACHE).clear();
+        savedPost = postRepository.saveAndFlush(Post.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .author("작성자")
+                .build());
+        QueryCountHolder.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @QueryBudget(1)
+    @DisplayName("ID 조회는 SELECT 1회")
+    void getPostById() {
+        postService.getPostById(savedPost.getId());
+    }
+
+    @Test
+    @QueryBudget(3)
+    @DisplayName("생성은 시퀀스 조회 + INSERT + outbox INSERT")
+    void createPost() {
+        postService.createPost(new PostRequest("새 제목", "새 내용", "작성자"));
+    }
+
+    @Test
+    @QueryBudget(3)
+    @DisplayName("수정은 SELECT + UPDATE + outbox INSERT")
+    void updatePost() {
+        postService.updatePost(savedPost.getId(), new PostRequest("수정된 제목", "수정된 내용", "작성자"));
+    }
+
+    @Test
+    @QueryBudget(3)
+    @DisplayName("부분 수정은 SELECT(2차 캐시 미스 시) + UPDATE + outbox INSERT")
+    void patchPost() {
+        postService.patchPost(savedPost.getId(), new PostPatchRequest("수정된 제목", null, null));
+    }
+
+    @Test
+    @QueryBudget(2)
+    @DisplayName("삭제는 DELETE + outbox INSERT")
+    void deletePost() {
+        postService.deletePost(savedPost.getId());
+    }
+
+    @Test
+    @QueryBudget(1)
+    @DisplayName("요약 페이지 조회는 SELECT 1회")
+    void getPostSummaryPage() {
+        postService.getPostSummaryPage(null, 20);
+    }
+}
@@ -1,18 +1,37 @@
 package com.gitfactory.blogapi.service;
 
+import com.gitfactory.blogapi.dto.CursorPageResponse;
+import com.gitfactory.blogapi.dto.PostPatchRequest;
 import com.gitfactory.blogapi.dto.PostRequest;
 import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.dto.PostSummaryResponse;
 import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.exception.ConflictingUpdateException;
+import com.gitfactory.blogapi.exception.InvalidCursorException;
+import com.gitfactory.blogapi.exception.InvalidRequestException;
+import com.gitfactory.blogapi.exception.PostNotFoundException;
+import com.gitfactory.blogapi.exception.PreconditionFailedException;
+import com.gitfactory.blogapi.outbox.PostChangeOutbox;
+import com.gitfactory.blogapi.outbox.PostChangeType;
 import com.gitfactory.blogapi.repository.PostRepository;
+import com.gitfactory.blogapi.repository.PostSummary;
+import com.gitfactory.blogapi.search.PostSearchIndex;
+import com.gitfactory.blogapi.search.SearchHits;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
-import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -20,7 +39,11 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 
@@ -31,6 +54,18 @@ class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostChangeOutbox postChangeOutbox;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private PostService postService;
 
@@ -45,11 +80,7 @@ class PostServiceTest {
                 .author("테스트 작성자")
                 .build();
 
-        postRequest = PostRequest.builder()
-                .title("테스트 제목")
-                .content("테스트 내용")
-                .author("테스트 작성자")
-                .build();
+        postRequest = new PostRequest("테스트 제목", "테스트 내용", "테스트 작성자");
     }
 
     @Test
@@ -64,7 +95,7 @@ class PostServiceTest {
 
         // Then
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getTitle()).isEqualTo("테스트 제목");
+        assertThat(result.get(0).title()).isEqualTo("테스트 제목");
     }
 
     @Test
@@ -77,8 +108,8 @@ class PostServiceTest {
         PostResponse result = postService.getPostById(1L);
 
         // Then
-        assertThat(result.getTitle()).isEqualTo("테스트 제목");
-        assertThat(result.getContent()).isEqualTo("테스트 내용");
+        assertThat(result.title()).isEqualTo("테스트 제목");
+        assertThat(result.content()).isEqualTo("테스트 내용");
     }
 
     @Test
@@ -89,34 +120,32 @@ class PostServiceTest {
 
         // When & Then
         assertThatThrownBy(() -> postService.getPostById(999L))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Post not found with id: 999");
+                .isInstanceOf(PostNotFoundException.class)
+                .hasMessageContaining("Post not found with id: 999")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());  // 스택 트레이스를 채우지 않음
     }
 
     @Test
     @DisplayName("포스트 생성 성공")
     void createPost() {
         // Given
-        given(postRepository.save(any(Post.class))).willReturn(testPost);
+        given(postRepository.saveAndFlush(any(Post.class))).willReturn(testPost);
 
         // When
         PostResponse result = postService.createPost(postRequest);
 
         // Then
-        assertThat(result.getTitle()).isEqualTo("테스트 제목");
-        assertThat(result.getContent()).isEqualTo("테스트 내용");
-        verify(postRepository, times(1)).save(any(Post.class));
+        assertThat(result.title()).isEqualTo("테스트 제목");
+        assertThat(result.content()).isEqualTo("테스트 내용");
+        verify(postRepository, times(1)).saveAndFlush(any(Post.class));
+        verify(postSearchIndex, times(1)).index(testPost);
     }
 
     @Test
     @DisplayName("포스트 수정 성공")
     void updatePost_Success() {
         // Given
-        PostRequest updateRequest = PostRequest.builder()
-                .title("수정된 제목")
-                .content("수정된 내용")
-                .author("테스트 작성자")
-                .build();
+        PostRequest updateRequest = new PostRequest("수정된 제목", "수정된 내용", "테스트 작성자");
 
         given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
 
@@ -124,8 +153,8 @@ class PostServiceTest {
         PostResponse result = postService.updatePost(1L, updateRequest);
 
         // Then
-        assertThat(result.getTitle()).isEqualTo("수정된 제목");
-        assertThat(result.getContent()).isEqualTo("수정된 내용");
+        assertThat(result.title()).isEqualTo("수정된 제목");
+        assertThat(result.content()).isEqualTo("수정된 내용");
     }
 
     @Test
@@ -136,48 +165,257 @@ class PostServiceTest {
 
         // When & Then
         assertThatThrownBy(() -> postService.updatePost(999L, postRequest))
-                .isInstanceOf(RuntimeException.class)
+                .isInstanceOf(PostNotFoundException.class)
                 .hasMessageContaining("Post not found with id: 999");
     }
 
     @Test
-    @DisplayName("포스트 삭제 성공")
+    @DisplayName("포스트 삭제 성공 - DELETE 1회")
     void deletePost_Success() {
         // Given
-        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+        given(postRepository.deletePostById(1L, null)).willReturn(1);
 
         // When
         postService.deletePost(1L);
 
         // Then
-        verify(postRepository, times(1)).delete(testPost);
+        verify(postRepository, times(1)).deletePostById(1L, null);
+        verify(postRepository, never()).findById(any());
+        verify(postSearchIndex).remove(1L);
+        verify(postChangeOutbox).record(1L, PostChangeType.DELETED, null);
     }
 
     @Test
     @DisplayName("포스트 삭제 실패 - 존재하지 않는 ID")
     void deletePost_NotFound() {
         // Given
-        given(postRepository.findById(999L)).willReturn(Optional.empty());
+        given(postRepository.deletePostById(999L, null)).willReturn(0);
 
         // When & Then
         assertThatThrownBy(() -> postService.deletePost(999L))
-                .isInstanceOf(RuntimeException.class)
+                .isInstanceOf(PostNotFoundException.class)
                 .hasMessageContaining("Post not found with id: 999");
+        verify(postChangeOutbox, never()).record(any(), any(), any());
     }
 
     @Test
-    @DisplayName("제목으로 포스트 검색")
-    void searchByTitle() {
+    @DisplayName("포스트 조건부 삭제 실패 - 그 사이 수정됨 (412)")
+    void deletePost_PreconditionFailed() {
         // Given
-        List<Post> posts = Arrays.asList(testPost);
-        given(postRepository.findByTitleContaining("테스트")).willReturn(posts);
+        Long expected = 3L;
+        given(postRepository.deletePostById(1L, expected)).willReturn(0);
+        given(postRepository.existsById(1L)).willReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> postService.deletePost(1L, expected))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    @DisplayName("포스트 조건부 수정 실패 - 버전 불일치 (412)")
+    void updatePost_PreconditionFailed() {
+        // Given
+        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+
+        // When & Then
+        assertThatThrownBy(() -> postService.updatePost(1L, postRequest, 3L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(postSearchIndex, never()).index(any());
+    }
+
+    @Test
+    @DisplayName("포스트 수정 - version 충돌 시 다른 요청이 바꾼 필드를 유지하고 새 트랜잭션에서 재시도")
+    void updatePost_RetryOnOptimisticLockFailure() {
+        // Given
+        Post concurrentlyModified = Post.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .author("다른 작성자")  // 다른 요청이 작성자만 수정하고 먼저 커밋
+                .build();
+        given(postRepository.findById(1L))
+                .willReturn(Optional.of(testPost))
+                .willReturn(Optional.of(concurrentlyModified));
+        willThrow(new ObjectOptimisticLockingFailureException(Post.class, 1L))
+                .willDoNothing()
+                .given(postRepository).flush();
 
         // When
-        List<PostResponse> result = postService.searchByTitle("테스트");
+        PostResponse result = postService.updatePost(1L, new PostRequest("수정된 제목", "수정된 내용", "테스트 작성자"));
 
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getTitle()).isEqualTo("테스트 제목");
+        assertThat(result.title()).isEqualTo("수정된 제목");
+        assertThat(result.content()).isEqualTo("수정된 내용");
+        assertThat(result.author()).isEqualTo("다른 작성자");
+        verify(postRepository, times(2)).findById(1L);
+        verify(transactionOperations, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("포스트 수정 실패 - 다른 요청이 같은 필드를 수정했으면 덮어쓰지 않고 충돌 (409)")
+    void updatePost_ConflictOnSameField() {
+        // Given
+        Post concurrentlyModified = Post.builder()
+                .title("다른 요청의 제목")
+                .content("테스트 내용")
+                .author("테스트 작성자")
+                .build();
+        given(postRepository.findById(1L))
+                .willReturn(Optional.of(testPost))
+                .willReturn(Optional.of(concurrentlyModified));
+        willThrow(new ObjectOptimisticLockingFailureException(Post.class, 1L))
+                .given(postRepository).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> postService.updatePost(1L, new PostRequest("수정된 제목", "테스트 내용", "테스트 작성자")))
+                .isInstanceOf(ConflictingUpdateException.class);
+        assertThat(concurrentlyModified.getTitle()).isEqualTo("다른 요청의 제목");
+        verify(postRepository, times(2)).findById(1L);
+        verify(postRepository, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("포스트 수정 실패 - 재시도 횟수 소진 시 충돌 예외 (409)")
+    void updatePost_RetryExhausted() {
+        // Given
+        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+        willThrow(new ObjectOptimisticLockingFailureException(Post.class, 1L))
+                .given(postRepository).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> postService.updatePost(1L, postRequest))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(postRepository, times(PostService.MAX_UPDATE_ATTEMPTS)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("포스트 조건부 수정 실패 - If-Match 요청은 충돌 시 재시도하지 않음 (412)")
+    void updatePost_NoRetryWithExpectedVersion() {
+        // Given
+        ReflectionTestUtils.setField(testPost, "version", 0L);
+        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+        willThrow(new ObjectOptimisticLockingFailureException(Post.class, 1L))
+                .given(postRepository).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> postService.updatePost(1L, postRequest, 0L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(postRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("포스트 부분 수정 성공 - 전달한 필드만 변경")
+    void patchPost_Success() {
+        // Given
+        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+
+        // When
+        postService.patchPost(1L, new PostPatchRequest("수정된 제목", null, null));
+
+        // Then
+        assertThat(testPost.getTitle()).isEqualTo("수정된 제목");
+        assertThat(testPost.getContent()).isEqualTo("테스트 내용");
+        assertThat(testPost.getAuthor()).isEqualTo("테스트 작성자");
+        verify(postRepository).flush();
+        verify(postChangeOutbox).record(eq(1L), eq(PostChangeType.UPDATED), any());
+        verify(postSearchIndex).update(1L, "수정된 제목", null);
+    }
+
+    @Test
+    @DisplayName("포스트 부분 수정 실패 - 존재하지 않는 ID")
+    void patchPost_NotFound() {
+        // Given
+        given(postRepository.findById(999L)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> postService.patchPost(999L, new PostPatchRequest(null, null, "작성자")))
+                .isInstanceOf(PostNotFoundException.class)
+                .hasMessageContaining("Post not found with id: 999");
+        verify(postChangeOutbox, never()).record(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("포스트 조건부 부분 수정 실패 - 버전 불일치 (412)")
+    void patchPost_PreconditionFailed() {
+        // Given
+        ReflectionTestUtils.setField(testPost, "version", 1L);
+        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+
+        // When & Then
+        assertThatThrownBy(() -> postService.patchPost(1L, new PostPatchRequest("수정된 제목", null, null), 3L))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(testPost.getTitle()).isEqualTo("테스트 제목");
+        verify(postRepository, never()).flush();
+    }
+
+    @Test
+    @DisplayName("포스트 부분 수정 - version 충돌 시 새 트랜잭션에서 최신 행에 다시 적용")
+    void patchPost_RetryOnOptimisticLockFailure() {
+        // Given
+        Post concurrentlyModified = Post.builder()
+                .title("테스트 제목")
+                .content("다른 요청의 내용")
+                .author("테스트 작성자")
+                .build();
+        given(postRepository.findById(1L))
+                .willReturn(Optional.of(testPost))
+                .willReturn(Optional.of(concurrentlyModified));
+        willThrow(new ObjectOptimisticLockingFailureException(Post.class, 1L))
+                .willDoNothing()
+                .given(postRepository).flush();
+
+        // When
+        postService.patchPost(1L, new PostPatchRequest("수정된 제목", null, null));
+
+        // Then
+        assertThat(concurrentlyModified.getTitle()).isEqualTo("수정된 제목");
+        assertThat(concurrentlyModified.getContent()).isEqualTo("다른 요청의 내용");
+        verify(transactionOperations, times(2)).execute(any());
+        verify(postChangeOutbox, times(1)).record(eq(1L), eq(PostChangeType.UPDATED), any());
+    }
+
+    @Test
+    @DisplayName("포스트 부분 수정 실패 - 수정할 필드 없음")
+    void patchPost_EmptyRequest() {
+        // When & Then
+        assertThatThrownBy(() -> postService.patchPost(1L, new PostPatchRequest(null, null, null)))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("검색 인덱스로 포스트 검색 - 관련도 순서 유지")
+    void search() {
+        // Given
+        Post first = mock(Post.class);
+        Post second = mock(Post.class);
+        given(first.getId()).willReturn(1L);
+        given(second.getId()).willReturn(2L);
+        given(second.getTitle()).willReturn("관련도 높은 제목");
+        given(postSearchIndex.search("테스트", 0, 20)).willReturn(new SearchHits(List.of(
+                new SearchHits.Hit(2L, 3.0),
+                new SearchHits.Hit(1L, 1.0)
+        ), 2));
+        given(postRepository.findAllById(List.of(2L, 1L))).willReturn(List.of(first, second));
+
+        // When
+        List<PostResponse> result = postService.search("테스트", 0, 20);
+
+        // Then
+        assertThat(result).extracting(PostResponse::id).containsExactly(2L, 1L);
+        assertThat(result.get(0).title()).isEqualTo("관련도 높은 제목");
+    }
+
+    @Test
+    @DisplayName("검색 결과가 없으면 DB를 조회하지 않음")
+    void search_NoHits() {
+        // Given
+        given(postSearchIndex.search("없는단어", 0, 20)).willReturn(SearchHits.empty());
+
+        // When
+        List<PostSummaryResponse> result = postService.searchSummaries("없는단어", 0, 20);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(postRepository, times(0)).findSummariesByIdIn(any());
     }
 
     @Test
@@ -192,6 +430,46 @@ class PostServiceTest {
 
         // Then
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getAuthor()).isEqualTo("테스트 작성자");
+        assertThat(result.get(0).author()).isEqualTo("테스트 작성자");
+    }
+
+    @Test
+    @DisplayName("커서 기반 페이지 조회 - 마지막 페이지")
+    void getPostPage_LastPage() {
+        // Given
+        given(postRepository.findFirstPage(any(Pageable.class))).willReturn(List.of(testPost));
+
+        // When
+        CursorPageResponse<PostResponse> result = postService.getPostPage(null, 20);
+
+        // Then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 기반 페이지 조회 실패 - 잘못된 커서")
+    void getPostPage_InvalidCursor() {
+        // When & Then
+        assertThatThrownBy(() -> postService.getPostPage("not-a-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("전체 포스트 요약 조회 - 본문 제외")
+    void getAllPostSummaries() {
+        // Given
+        PostSummary summary = mock(PostSummary.class);
+        given(summary.getTitle()).willReturn("테스트 제목");
+        given(postRepository.findAllProjectedBy()).willReturn(List.of(summary));
+
+        // When
+        List<PostSummaryResponse> result = postService.getAllPostSummaries();
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).title()).isEqualTo("테스트 제목");
     }
-}
\ No newline at end of file
+}
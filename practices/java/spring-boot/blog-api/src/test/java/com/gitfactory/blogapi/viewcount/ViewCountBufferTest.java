@@ -0,0 +1,99 @@
+package com.gitfactory.blogapi.viewcount;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ViewCountBuffer 테스트")
+class ViewCountBufferTest {
+
+    private final ViewCountBuffer buffer = new ViewCountBuffer();
+
+    @Test
+    @DisplayName("증가분을 꺼내면 0으로 초기화")
+    void drain() {
+        // Given
+        buffer.increment(2L);
+        buffer.increment(1L);
+        buffer.increment(1L);
+
+        // When
+        Map<Long, Long> deltas = buffer.drain();
+
+        // Then
+        assertThat(deltas).containsExactly(Map.entry(1L, 2L), Map.entry(2L, 1L));
+        assertThat(buffer.pending(1L)).isZero();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 증가가 없던 게시글은 버퍼에서 제거")
+    void drain_RemovesIdlePosts() {
+        // Given
+        buffer.increment(1L);
+        buffer.increment(2L);
+        buffer.drain();
+        buffer.increment(2L);
+
+        // When
+        Map<Long, Long> deltas = buffer.drain();
+
+        // Then
+        assertThat(deltas).containsExactly(Map.entry(2L, 1L));
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.drain()).isEmpty();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패한 증가분은 되돌려서 다음에 다시 꺼냄")
+    void restore() {
+        // Given
+        buffer.increment(1L);
+        Map<Long, Long> failed = buffer.drain();
+        buffer.increment(1L);
+
+        // When
+        failed.forEach(buffer::restore);
+
+        // Then
+        assertThat(buffer.drain()).containsExactly(Map.entry(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("동시에 증가시키면서 꺼내도 증가분이 유실되거나 중복되지 않음")
+    void concurrentIncrementAndDrain() throws Exception {
+        // Given
+        int threads = 8;
+        int incrementsPerThread = 100_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicLong drained = new AtomicLong();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    buffer.increment((long) (j % 4));
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            buffer.drain().values().forEach(drained::addAndGet);
+        }
+        buffer.drain().values().forEach(drained::addAndGet);
+        executor.shutdown();
+
+        // Then
+        assertThat(drained.get()).isEqualTo((long) threads * incrementsPerThread);
+    }
+}
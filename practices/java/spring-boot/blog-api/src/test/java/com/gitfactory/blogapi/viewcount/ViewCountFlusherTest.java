@@ -0,0 +1,139 @@
+package com.gitfactory.blogapi.viewcount;
+
+import com.gitfactory.blogapi.config.CacheConfig;
+import com.gitfactory.blogapi.dto.PostResponse;
+import com.gitfactory.blogapi.entity.Post;
+import com.gitfactory.blogapi.repository.PostRepository;
+import com.gitfactory.blogapi.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 반영 테스트
+ *
+ * 스케줄러가 끼어들지 않도록 flush 주기를 길게 두고 직접 flush합니다.
+ */
+@SpringBootTest(properties = "blog.view-count.flush-interval-ms=3600000")
+@DisplayName("ViewCountFlusher 테스트")
+class ViewCountFlusherTest {
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private ViewCountFlusher viewCountFlusher;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Post savedPost;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.POSTS_CACHE).clear();
+        viewCountBuffer.drain();
+        savedPost = postRepository.saveAndFlush(Post.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .author("작성자")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("모인 증가분을 한 번에 반영하고 캐시된 응답의 조회수에 더함")
+    void flush() {
+        // Given
+        postService.getPostById(savedPost.getId());
+        for (int i = 0; i < 100; i++) {
+            viewCountBuffer.increment(savedPost.getId());
+        }
+
+        // When
+        int flushed = viewCountFlusher.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(viewCountBuffer.pending(savedPost.getId())).isZero();
+        // 캐시에서 제거하지 않고 그대로 갱신
+        assertThat(cacheManager.getCache(CacheConfig.POSTS_CACHE).get(savedPost.getId(), PostResponse.class))
+                .extracting(PostResponse::viewCount)
+                .isEqualTo(100L);
+        assertThat(postService.getPostById(savedPost.getId()).viewCount()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("캐시에 없던 게시글은 반영 후 첫 조회에서 DB 값을 읽음")
+    void flush_NotCached() {
+        // Given
+        viewCountBuffer.increment(savedPost.getId());
+
+        // When
+        viewCountFlusher.flush();
+
+        // Then
+        assertThat(cacheManager.getCache(CacheConfig.POSTS_CACHE).get(savedPost.getId())).isNull();
+        assertThat(postService.getPostById(savedPost.getId()).viewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회수 반영 전에 읽은 엔티티를 수정해도 반영된 조회수를 덮어쓰지 않음")
+    void updateStaleEntityKeepsViewCount() {
+        // Given
+        viewCountBuffer.increment(savedPost.getId());
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postRepository.findById(savedPost.getId()).orElseThrow();
+            viewCountFlusher.flush();
+            post.update("수정된 제목", "수정된 내용", "작성자");
+            postRepository.flush();
+        });
+
+        // Then (2차 캐시를 거치지 않고 DB 컬럼을 직접 확인)
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM posts WHERE id = ?",
+                String.class, savedPost.getId())).isEqualTo("수정된 제목");
+        assertThat(jdbcTemplate.queryForObject("SELECT view_count FROM posts WHERE id = ?",
+                Long.class, savedPost.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글의 증가분은 버림")
+    void flushDeletedPost() {
+        // Given
+        viewCountBuffer.increment(savedPost.getId());
+        postRepository.deleteAllInBatch();
+
+        // When
+        int flushed = viewCountFlusher.flush();
+
+        // Then
+        assertThat(flushed).isZero();
+        assertThat(viewCountBuffer.drain()).isEmpty();
+    }
+}